@@ -2,6 +2,7 @@ package com.sparta.i_mu.domain.comment.controller;
 
 import com.sparta.i_mu.domain.comment.dto.CommentRequestDto;
 import com.sparta.i_mu.domain.comment.dto.CommentResponseDto;
+import com.sparta.i_mu.global.responseResource.CursorPageResponseDto;
 import com.sparta.i_mu.global.responseResource.ResponseResource;
 import com.sparta.i_mu.global.security.UserDetailsImpl;
 import com.sparta.i_mu.domain.comment.service.CommentService;
@@ -35,6 +36,14 @@ public class CommentController {
         return commentService.getComment(postId, pageable);
     }
 
+    @GetMapping("/posts/{postId}/comments/cursor")
+    @Operation(summary = "댓글 커서 조회", description = "최신순, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달")
+    @Parameter(name = "postId", description = "조회 댓글의 게시판 ID ")
+    public CursorPageResponseDto<CommentResponseDto> getCommentByCursor(@PathVariable Long postId,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam int size) {
+        return commentService.getCommentByCursor(postId, cursor, size);
+    }
 
     @PutMapping("/comments/{commentId}")
     @Operation(summary = "댓글 수정", description = "게시글에 작성한 댓글 수정")
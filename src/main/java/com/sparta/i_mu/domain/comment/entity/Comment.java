@@ -17,6 +17,7 @@ import static lombok.AccessLevel.PROTECTED;
 @Builder
 @AllArgsConstructor(access = PROTECTED)
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = @Index(name = "idx_comment_post_deleted_created_at", columnList = "post_id, deleted, created_at, id"))
 public class Comment extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -4,7 +4,9 @@ import com.sparta.i_mu.domain.comment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -16,6 +18,27 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Page<Comment> findAllByPostIdAndDeletedFalse(Long id, Pageable pageable);
 
+    /**
+     * 게시글 댓글 커서 조회 - 첫 페이지
+     * @param postId
+     * @param pageable 조회할 개수 (size + 1)
+     * @return 최신순 댓글
+     */
+    List<Comment> findAllByPostIdAndDeletedFalseOrderByCreatedAtDescIdDesc(Long postId, Pageable pageable);
+
+    /**
+     * 게시글 댓글 커서 조회 - (createdAt, id) 커서 이후의 댓글
+     * @param postId
+     * @param createdAt 마지막으로 받은 댓글의 작성 시간
+     * @param id 마지막으로 받은 댓글의 id
+     * @param pageable 조회할 개수 (size + 1)
+     * @return 최신순 댓글
+     */
+    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.deleted = false " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findAllByPostIdBeforeCursor(Long postId, LocalDateTime createdAt, Long id, Pageable pageable);
+
 
     // 회원 탈퇴
 
@@ -6,19 +6,23 @@ import com.sparta.i_mu.domain.comment.entity.Comment;
 import com.sparta.i_mu.domain.post.entity.Post;
 import com.sparta.i_mu.domain.user.entity.User;
 import com.sparta.i_mu.global.errorCode.ErrorCode;
+import com.sparta.i_mu.global.responseResource.CursorPageResponseDto;
 import com.sparta.i_mu.global.responseResource.ResponseResource;
 import com.sparta.i_mu.domain.comment.repository.CommentRepository;
 import com.sparta.i_mu.domain.post.repository.PostRepository;
 import com.sparta.i_mu.domain.notification.service.NotificationService;
+import com.sparta.i_mu.global.util.CursorUtil;
 import com.sparta.i_mu.global.util.NotificationType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 
 @Service
@@ -52,6 +56,27 @@ public class CommentService {
         return comments;
     }
 
+    /**
+     * 게시글 댓글 커서 조회 (최신순)
+     * @param postId
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     * @param size
+     * @return 댓글과 다음 커서
+     */
+    public CursorPageResponseDto<CommentResponseDto> getCommentByCursor(Long postId, String cursor, int size) {
+        CursorUtil.validateSize(size);
+        CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<Comment> comments = decoded == null
+                ? commentRepository.findAllByPostIdAndDeletedFalseOrderByCreatedAtDescIdDesc(postId, limit)
+                : commentRepository.findAllByPostIdBeforeCursor(postId, decoded.getCreatedAt(), decoded.getId(), limit);
+
+        return CursorPageResponseDto.of(comments, size,
+                comment -> CursorUtil.encode(comment.getCreatedAt(), comment.getId()),
+                page -> page.stream().map(CommentResponseDto::new).toList());
+    }
+
     @Transactional
     public ResponseResource<?> updateComment(Long commentId, CommentRequestDto requestDto, User user) {
         Comment comment = findComment(commentId);
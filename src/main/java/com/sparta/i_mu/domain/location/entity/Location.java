@@ -13,6 +13,7 @@ import static lombok.AccessLevel.PROTECTED;
 @Builder
 @AllArgsConstructor(access = PROTECTED)
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = @Index(name = "idx_location_latitude_longitude", columnList = "latitude, longitude"))
 public class Location {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Id
@@ -1,16 +1,43 @@
 package com.sparta.i_mu.domain.location.repository;
 
 import com.sparta.i_mu.domain.location.entity.Location;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface LocationRepository extends JpaRepository<Location, Long> {
+
+    /**
+     * 게시글 수가 많은 장소 top-N - 인기 장소 랭킹(Redis)이 비어있을 때만 사용
+     * @param pageable 조회할 개수
+     * @return 장소 이름
+     */
     @Query("SELECT l.placeName " +
-            "FROM Location l LEFT JOIN Post p ON l.id = p.location.id " +  // Location과 Post 사이의 LEFT JOIN
-            "WHERE p.deleted = false " +
+            "FROM Post p JOIN p.location l " +
+            "WHERE p.deleted = false AND l.placeName IS NOT NULL " +
             "GROUP BY l.placeName " +
-            "ORDER BY COUNT(l.placeName) DESC")
-    List<String> findAllByTopLocations();
+            "ORDER BY COUNT(p) DESC")
+    List<String> findTopPlaceNames(Pageable pageable);
+
+    /**
+     * 장소(이름, 좌표)별 게시글 수 - 인기 장소 랭킹 보정용
+     * @return 장소별 게시글 수
+     */
+    @Query("SELECT l.placeName AS placeName, l.latitude AS latitude, l.longitude AS longitude, COUNT(p) AS postCount " +
+            "FROM Post p JOIN p.location l " +
+            "WHERE p.deleted = false AND l.placeName IS NOT NULL " +
+            "GROUP BY l.placeName, l.latitude, l.longitude")
+    List<PlaceCount> findPlaceCounts();
+
+    interface PlaceCount {
+        String getPlaceName();
+
+        Double getLatitude();
+
+        Double getLongitude();
+
+        Long getPostCount();
+    }
 }
@@ -1,23 +1,27 @@
 package com.sparta.i_mu.domain.location.service;
 
-import com.sparta.i_mu.domain.location.repository.LocationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class LocationService {
 
-    private final LocationRepository locationRepository;
+    private static final int TOP_LOCATION_SIZE = 10;
+
+    private final TopPlaceRanking topPlaceRanking;
+
+    // 게시글이 많은 장소 top10 -> Redis ZSET 랭킹에서 조회
     public List<String> getTopLocations(){
-        return locationRepository.findAllByTopLocations()
-                .stream()
-                .limit(10)
-                .collect(Collectors.toList());
+        return topPlaceRanking.getTopPlaces(TOP_LOCATION_SIZE);
+    }
+
+    // 좌표가 속한 지역(geohash)에서 게시글이 많은 장소 top10
+    public List<String> getTopLocations(Double longitude, Double latitude) {
+        return topPlaceRanking.getTopPlaces(longitude, latitude, TOP_LOCATION_SIZE);
     }
 }
@@ -0,0 +1,115 @@
+package com.sparta.i_mu.domain.location.service;
+
+import com.sparta.i_mu.domain.location.repository.LocationRepository;
+import com.sparta.i_mu.domain.post.event.PostChangedEvent;
+import com.sparta.i_mu.global.util.GeoUtil;
+import com.sparta.i_mu.global.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 장소 랭킹 (장소별 게시글 수)
+ * 게시글 작성/수정/삭제 이벤트(커밋 이후)에 전체 랭킹과 장소가 속한 지역(geohash) 랭킹의 ZSET 점수를 증감하고,
+ * 조회는 ZREVRANGE 로 상위 N 개만 읽는다.
+ * 누락된 갱신으로 생긴 차이는 주기적으로 DB 기준으로 다시 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopPlaceRanking {
+
+    private static final int GEOHASH_PRECISION = 4; // 약 39km x 19.5km
+    private static final long REGION_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    private final LocationRepository locationRepository;
+    private final RedisUtil redisUtil;
+
+    /**
+     * 게시글 작성/수정/삭제 - 커밋 이후 수정 전 장소에서 빼고 수정 후 장소에 더한다.
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        update(event.getBefore(), -1);
+        update(event.getAfter(), 1);
+    }
+
+    /**
+     * @param size
+     * @return 전체 인기 장소
+     */
+    public List<String> getTopPlaces(int size) {
+        return getTopPlaces(null, size);
+    }
+
+    /**
+     * @param longitude
+     * @param latitude
+     * @param size
+     * @return 좌표가 속한 지역의 인기 장소
+     */
+    public List<String> getTopPlaces(Double longitude, Double latitude, int size) {
+        return getTopPlaces(GeoUtil.geohash(longitude, latitude, GEOHASH_PRECISION), size);
+    }
+
+    /**
+     * 랭킹을 DB 기준으로 다시 맞춘다 - 애플리케이션 시작 시에도 한 번 실행되어 랭킹을 채운다.
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void reconcile() {
+        try {
+            Map<String, Long> global = new HashMap<>();
+            Map<String, Map<String, Long>> regions = new HashMap<>();
+            for (LocationRepository.PlaceCount placeCount : locationRepository.findPlaceCounts()) {
+                String placeName = placeCount.getPlaceName().strip();
+                global.merge(placeName, placeCount.getPostCount(), Long::sum);
+                if (placeCount.getLatitude() != null && placeCount.getLongitude() != null) {
+                    String geohash = GeoUtil.geohash(placeCount.getLongitude(), placeCount.getLatitude(), GEOHASH_PRECISION);
+                    regions.computeIfAbsent(geohash, key -> new HashMap<>()).merge(placeName, placeCount.getPostCount(), Long::sum);
+                }
+            }
+            redisUtil.replacePlaceRankings(global, regions, REGION_TTL_SECONDS);
+            log.info("인기 장소 랭킹 보정 완료 - 장소 수 : {}, 지역 수 : {}", global.size(), regions.size());
+        } catch (Exception e) {
+            log.error("인기 장소 랭킹 보정 중 오류 발생 : ", e);
+        }
+    }
+
+    /**
+     * 랭킹이 비어있거나 Redis 조회에 실패하면 DB 에서 상위 N 개만 조회한다.
+     */
+    private List<String> getTopPlaces(String geohash, int size) {
+        try {
+            List<String> placeNames = redisUtil.getTopPlaces(geohash, size);
+            if (!placeNames.isEmpty() || geohash != null) {
+                return placeNames;
+            }
+        } catch (Exception e) {
+            log.error("인기 장소 랭킹 조회 중 오류 발생 : ", e);
+        }
+        return geohash == null ? locationRepository.findTopPlaceNames(PageRequest.of(0, size)) : List.of();
+    }
+
+    private void update(PostChangedEvent.Snapshot post, long delta) {
+        if (post == null || post.getPlaceName() == null || post.getPlaceName().isBlank()
+                || post.getLatitude() == null || post.getLongitude() == null) {
+            return;
+        }
+        try {
+            String geohash = GeoUtil.geohash(post.getLongitude(), post.getLatitude(), GEOHASH_PRECISION);
+            redisUtil.incrementPlace(post.getPlaceName().strip(), geohash, delta, REGION_TTL_SECONDS);
+        } catch (Exception e) {
+            // 랭킹 갱신 실패가 본 요청을 실패시키지 않도록 - 차이는 보정 작업에서 맞춰진다.
+            log.error("인기 장소 랭킹 갱신 중 오류 발생 : ", e);
+        }
+    }
+}
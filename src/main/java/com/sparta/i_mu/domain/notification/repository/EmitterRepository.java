@@ -1,60 +1,232 @@
 package com.sparta.i_mu.domain.notification.repository;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * SSE 연결과 재연결 시 다시 보낼 이벤트를 유저 id 별로 보관
+ * 알림 전송/삭제는 전체 연결을 순회하지 않고 해당 유저의 연결만 조회한다.
+ * 이벤트는 유저별 고정 크기 ring buffer 에 단조 증가하는 sequence 와 함께 보관하고,
+ * 보관 기간/전체 개수 제한을 넘은 이벤트는 주기적으로 정리한다.
+ */
 @Repository
 public class EmitterRepository {
-    public final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
 
-    public SseEmitter save(String id, SseEmitter sseEmitter) {
-        emitters.put(id, sseEmitter);
+    private static final int EVENT_CACHE_SIZE = 50; // 유저별로 보관할 최근 이벤트 수
+    private static final int MAX_TOTAL_EVENTS = 100_000; // 전체 보관 이벤트 수 상한
+    private static final long EVENT_TTL_MILLIS = 30 * 60 * 1000L;
+
+    // userId -> (emitterId -> emitter)
+    private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+    // userId -> 최근 이벤트
+    private final Map<Long, EventBuffer> eventCache = new ConcurrentHashMap<>();
+
+    // 현재 시각(ms) 이상으로 시작해서 재시작 후에도 이전 Last-Event-ID 보다 큰 값을 발급
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger totalEvents = new AtomicInteger();
+    private final Clock clock;
+
+    @Autowired
+    public EmitterRepository(MeterRegistry meterRegistry) {
+        this(meterRegistry, Clock.systemUTC());
+    }
+
+    EmitterRepository(MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        Gauge.builder("sse.connections", this, EmitterRepository::countEmitters).register(meterRegistry);
+        Gauge.builder("sse.replay.users", eventCache, Map::size).register(meterRegistry);
+        Gauge.builder("sse.replay.events", totalEvents, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * @return 단조 증가하는 sequence - 연결/이벤트 id 에 사용
+     */
+    public long nextSequence() {
+        return sequence.accumulateAndGet(clock.millis(), (prev, now) -> Math.max(prev + 1, now));
+    }
+
+    public SseEmitter save(Long userId, String emitterId, SseEmitter sseEmitter) {
+        // deleteById 가 빈 map 을 제거하는 것과 겹치지 않도록 유저 키 단위로 원자적으로 추가
+        emitters.compute(userId, (key, userEmitters) -> {
+            Map<String, SseEmitter> target = userEmitters == null ? new ConcurrentHashMap<>() : userEmitters;
+            target.put(emitterId, sseEmitter);
+            return target;
+        });
         return sseEmitter;
     }
 
-    public void saveEventCache(String id, Object event) {
-        eventCache.put(id, event);
+    /**
+     * 재연결 시 다시 보낼 이벤트 보관
+     * @param userId
+     * @param event
+     * @return 이벤트 sequence - 유저별로 보관 순서와 같은 순서로 증가
+     */
+    public long saveEventCache(Long userId, Object event) {
+        // 정리 작업과 겹치지 않도록 유저 키 단위로 원자적으로 추가
+        long[] eventSequence = new long[1];
+        eventCache.compute(userId, (key, buffer) -> {
+            EventBuffer target = buffer == null ? new EventBuffer(EVENT_CACHE_SIZE) : buffer;
+            eventSequence[0] = target.add(event);
+            return target;
+        });
+        return eventSequence[0];
     }
 
-    public Map<String, SseEmitter> findAllStartWithById(String id) {
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(id))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    /**
+     * @param userId
+     * @return 유저의 SSE 연결 (emitterId -> emitter)
+     */
+    public Map<String, SseEmitter> findAllByUserId(Long userId) {
+        return emitters.getOrDefault(userId, Collections.emptyMap());
     }
 
-    public Map<String, Object> findAllEventCacheStartWithId(String id) {
-        return eventCache.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(id))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    /**
+     * @param userId
+     * @param lastSequence 클라이언트가 마지막으로 받은 sequence
+     * @return lastSequence 이후의 보관 기간 내 이벤트 (sequence -> event), sequence 오름차순
+     */
+    public List<Map.Entry<Long, Object>> findAllEventCacheAfter(Long userId, long lastSequence) {
+        EventBuffer buffer = eventCache.get(userId);
+        return buffer == null ? List.of() : buffer.after(lastSequence, clock.millis() - EVENT_TTL_MILLIS);
     }
 
-    public void deleteById(String id) {
-        emitters.remove(id);
+    public void deleteById(Long userId, String emitterId) {
+        // 마지막 연결이 끊기면 유저 키도 제거
+        emitters.computeIfPresent(userId, (key, userEmitters) -> {
+            userEmitters.remove(emitterId);
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
     }
 
-    public void deleteAllStartWithId(String id) {
-        emitters.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(id)) {
-                        emitters.remove(key);
-                    }
-                }
-        );
+    public void deleteAllByUserId(Long userId) {
+        emitters.remove(userId);
     }
 
-    public void deleteAllEventCacheStartWithId(String id) {
-        eventCache.forEach(
-                (key, data) -> {
-                    if (key.startsWith(id)) {
-                        eventCache.remove(key);
-                    }
-                }
-        );
+    public void deleteAllEventCacheByUserId(Long userId) {
+        eventCache.computeIfPresent(userId, (key, buffer) -> {
+            buffer.clear();
+            return null;
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 이벤트 정리, 전체 개수 상한을 넘으면 마지막 이벤트가 오래된 유저부터 제거
+     */
+    public void deleteExpiredEventCache() {
+        long expiredBefore = clock.millis() - EVENT_TTL_MILLIS;
+        for (Long userId : eventCache.keySet()) {
+            eventCache.computeIfPresent(userId, (key, buffer) -> buffer.evictBefore(expiredBefore) == 0 ? null : buffer);
+        }
+
+        if (totalEvents.get() <= MAX_TOTAL_EVENTS) {
+            return;
+        }
+        List<Map.Entry<Long, EventBuffer>> oldest = new ArrayList<>(eventCache.entrySet());
+        oldest.sort(Comparator.comparingLong(entry -> entry.getValue().lastEventTime()));
+        for (Map.Entry<Long, EventBuffer> entry : oldest) {
+            if (totalEvents.get() <= MAX_TOTAL_EVENTS) {
+                break;
+            }
+            deleteAllEventCacheByUserId(entry.getKey());
+        }
+    }
+
+    private double countEmitters() {
+        return emitters.values().stream().mapToInt(Map::size).sum();
     }
 
+    /**
+     * 고정 크기 ring buffer - 가득 차면 가장 오래된 이벤트를 덮어쓴다.
+     * sequence 는 lock 안에서 발급해서 buffer 안에서 항상 오름차순이므로 이진 탐색으로 재전송 시작 위치를 찾는다.
+     */
+    private class EventBuffer {
+        private final long[] sequences;
+        private final long[] eventTimes;
+        private final Object[] events;
+        private int head; // 다음에 쓸 위치
+        private int size;
+
+        private EventBuffer(int capacity) {
+            this.sequences = new long[capacity];
+            this.eventTimes = new long[capacity];
+            this.events = new Object[capacity];
+        }
+
+        private synchronized long add(Object event) {
+            long eventSequence = nextSequence();
+            sequences[head] = eventSequence;
+            eventTimes[head] = clock.millis();
+            events[head] = event;
+            head = (head + 1) % events.length;
+            if (size < events.length) {
+                size++;
+                totalEvents.incrementAndGet();
+            }
+            return eventSequence;
+        }
+
+        private synchronized List<Map.Entry<Long, Object>> after(long lastSequence, long expiredBefore) {
+            // lastSequence 보다 큰 첫 번째 위치
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sequences[index(mid)] <= lastSequence) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            List<Map.Entry<Long, Object>> result = new ArrayList<>(size - low);
+            for (int i = low; i < size; i++) {
+                int index = index(i);
+                if (eventTimes[index] >= expiredBefore) {
+                    result.add(Map.entry(sequences[index], events[index]));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 오래된 이벤트부터 expiredBefore 이전 이벤트 제거
+         * @return 남은 이벤트 수
+         */
+        private synchronized int evictBefore(long expiredBefore) {
+            while (size > 0 && eventTimes[index(0)] < expiredBefore) {
+                events[index(0)] = null;
+                size--;
+                totalEvents.decrementAndGet();
+            }
+            return size;
+        }
+
+        private synchronized void clear() {
+            totalEvents.addAndGet(-size);
+            size = 0;
+            Arrays.fill(events, null);
+        }
+
+        private synchronized long lastEventTime() {
+            return size == 0 ? 0 : eventTimes[index(size - 1)];
+        }
+
+        // 오래된 순서 기준 i 번째 이벤트의 배열 위치
+        private int index(int i) {
+            return (head - size + i + events.length) % events.length;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.sparta.i_mu.domain.notification.service;
 
+import com.sparta.i_mu.domain.notification.repository.EmitterRepository;
 import com.sparta.i_mu.domain.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
 public class NotificationScheduler {
 
     private final NotificationRepository notificationRepository;
+    private final EmitterRepository emitterRepository;
 
     @Transactional
     @Scheduled(cron = "0 0 0 * * ?")
@@ -24,4 +26,12 @@ public class NotificationScheduler {
 
     }
 
+    // 재연결 시 다시 보낼 이벤트 - 보관 기간/개수 상한을 넘은 이벤트 정리
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void cleanupEventCache() {
+
+        emitterRepository.deleteExpiredEventCache();
+
+    }
+
 }
@@ -17,7 +17,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,43 +29,61 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
 
     public SseEmitter connect(Long userId, String lastEventId, HttpServletResponse response) {
-        String id = userId + "_" + System.currentTimeMillis();
+        String id = userId + "_" + emitterRepository.nextSequence();
         log.info(id);
-        SseEmitter emitter = emitterRepository.save(id, new SseEmitter(DEFAULT_TIMEOUT));
+        SseEmitter emitter = emitterRepository.save(userId, id, new SseEmitter(DEFAULT_TIMEOUT));
 
-        emitter.onCompletion(() -> emitterRepository.deleteById(id));
-        emitter.onTimeout(() -> emitterRepository.deleteById(id));
-        emitter.onError((e) -> emitterRepository.deleteById(id));
+        emitter.onCompletion(() -> emitterRepository.deleteById(userId, id));
+        emitter.onTimeout(() -> emitterRepository.deleteById(userId, id));
+        emitter.onError((e) -> emitterRepository.deleteById(userId, id));
 
         // 503 에러 방지, 더미 전송
-        sendToClient(emitter, id, "연결되었습니다. userId: " + userId, "sse");
+        sendToClient(emitter, userId, id, id, "연결되었습니다. userId: " + userId, "sse");
         // NGINX PROXY 에서의 필요설정, 불필요한 버퍼링방지
         response.setHeader("X-Accel-Buffering", "no");
 
         // 클라이언트가 미수신한 Event 목록이 존재할 경우 전송하여 Event 유실을 예방
         if (!lastEventId.isEmpty()) {
-            Map<String, Object> events = emitterRepository.findAllEventCacheStartWithId(String.valueOf(userId));
-            events.entrySet().stream()
-                    .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
-                    .forEach(entry -> sendToClient(emitter, entry.getKey(), entry.getValue(), "sse"));
+            emitterRepository.findAllEventCacheAfter(userId, sequenceOf(lastEventId))
+                    .forEach(entry -> sendToClient(emitter, userId, id, userId + "_" + entry.getKey(), entry.getValue(), "sse"));
         }
 
         return emitter;
     }
 
     // java.lang.IllegalStateException: The response object has been recycled and is no longer associated with this facade
-    private void sendToClient(SseEmitter emitter, String id, Object data, String type) {
+    private void sendToClient(SseEmitter emitter, Long userId, String emitterId, String eventId, Object data, String type) {
         try {
             emitter.send(SseEmitter.event()
-                    .id(id)
+                    .id(eventId)
                     .name(type)
                     .data(data));
         } catch (Exception exception) {
-            emitterRepository.deleteById(id);
+            emitterRepository.deleteById(userId, emitterId);
 //            throw new RuntimeException("SSE 연결 오류");
         }
     }
 
+    /**
+     * 받는 유저의 연결에만 전송 - 재연결 시 다시 보낼 수 있도록 이벤트는 유저별로 한 번만 보관
+     */
+    private void send(Long receiverId, Notification notification, String type) {
+        NotificationResponse data = NotificationResponse.from(notification);
+        String eventId = receiverId + "_" + emitterRepository.saveEventCache(receiverId, data);
+        emitterRepository.findAllByUserId(receiverId).forEach(
+                (emitterId, emitter) -> sendToClient(emitter, receiverId, emitterId, eventId, data, type)
+        );
+    }
+
+    // Last-Event-ID("userId_sequence") 의 sequence, 형식이 다르면 보관된 이벤트를 모두 다시 보낸다.
+    private long sequenceOf(String lastEventId) {
+        try {
+            return Long.parseLong(lastEventId.substring(lastEventId.lastIndexOf('_') + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     @Transactional
     public void commentSend(User receiver, User sender, String content, NotificationType notificationType, Long postId, String type) {
         Notification notification = Notification.builder()
@@ -78,17 +95,9 @@ public class NotificationService {
                 .isRead(false)
                 .build();
 
-        String id = String.valueOf(receiver.getId());
-
         notificationRepository.save(notification);
 
-        Map<String, SseEmitter> sseEmitters = emitterRepository.findAllStartWithById(id);
-        sseEmitters.forEach(
-                (key, emitter) -> {
-                    emitterRepository.saveEventCache(key, notification);
-                    sendToClient(emitter, key, NotificationResponse.from(notification), type);
-                }
-        );
+        send(receiver.getId(), notification, type);
     }
 
     @Transactional
@@ -100,17 +109,9 @@ public class NotificationService {
                 .isRead(false)
                 .build();
 
-        String id = String.valueOf(receiver.getId());
-
         notificationRepository.save(notification);
 
-        Map<String, SseEmitter> sseEmitters = emitterRepository.findAllStartWithById(id);
-        sseEmitters.forEach(
-                (key, emitter) -> {
-                    emitterRepository.saveEventCache(key, notification);
-                    sendToClient(emitter, key, NotificationResponse.from(notification), type);
-                }
-        );
+        send(receiver.getId(), notification, type);
     }
 
     @Transactional
@@ -124,17 +125,9 @@ public class NotificationService {
                 .isRead(false)
                 .build();
 
-        String id = String.valueOf(receiver.getId());
-
         notificationRepository.save(notification);
 
-        Map<String, SseEmitter> sseEmitters = emitterRepository.findAllStartWithById(id);
-        sseEmitters.forEach(
-                (key, emitter) -> {
-                    emitterRepository.saveEventCache(key, notification);
-                    sendToClient(emitter, key, NotificationResponse.from(notification), type);
-                }
-        );
+        send(receiver.getId(), notification, type);
     }
 
     @Transactional
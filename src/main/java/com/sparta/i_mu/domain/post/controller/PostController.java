@@ -6,6 +6,7 @@ import com.sparta.i_mu.domain.post.dto.PostByCategoryResponseDto;
 import com.sparta.i_mu.domain.post.dto.PostResponseDto;
 import com.sparta.i_mu.domain.post.dto.TopPostResponseDto;
 import com.sparta.i_mu.domain.user.entity.User;
+import com.sparta.i_mu.global.responseResource.CursorPageResponseDto;
 import com.sparta.i_mu.global.responseResource.ResponseResource;
 import com.sparta.i_mu.global.security.UserDetailsImpl;
 import com.sparta.i_mu.domain.post.service.PostService;
@@ -18,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -106,15 +108,34 @@ public class PostController {
             @RequestParam int size,
             @RequestParam(required = false) String sortBy,
             @RequestParam(required = false) String direction) {
-        Sort sort = Sort.unsorted();
-        if (sortBy != null && direction != null) {
-            sort = Sort.by(Sort.Direction.fromString(direction), sortBy);
-        }
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, size, toSort(sortBy, direction));
         return postService.getAllAreaPost(postSearchRequestDto, pageable);
 
     }
 
+    // 상세 리스트 페이지 - 내주변 (무한 스크롤, 전체 개수 없음)
+    @GetMapping("/nearby/slice")
+    @Operation(summary = "내 주변 게시물 무한 스크롤 조회", description = "전체 개수 없이 다음 페이지 여부(hasNext)만 반환")
+    public Slice<PostResponseDto> getAllAreaPostSlice(
+            @RequestBody MapPostSearchRequestDto postSearchRequestDto,
+            @RequestParam int page,
+            @RequestParam int size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String direction) {
+        Pageable pageable = PageRequest.of(page, size, toSort(sortBy, direction));
+        return postService.getAllAreaPostSlice(postSearchRequestDto, pageable);
+    }
+
+    // 상세 리스트 페이지 - 내주변 (커서 기반)
+    @GetMapping("/nearby/cursor")
+    @Operation(summary = "내 주변 게시물 커서 조회", description = "최신순, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달")
+    public CursorPageResponseDto<PostResponseDto> getAllAreaPostByCursor(
+            @RequestBody MapPostSearchRequestDto postSearchRequestDto,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size) {
+        return postService.getAllAreaPostByCursor(postSearchRequestDto, cursor, size);
+    }
+
     // 서브 리스트 페이지 - 카테고리별
     @GetMapping("/category/{categoryId}")
     @Operation(summary = "카테고리별 게시물 리스트 조회", description = "카테고리별 게시물 리스트 조회")
@@ -125,15 +146,36 @@ public class PostController {
             @RequestParam int size,
             @RequestParam(required = false) String sortBy,
             @RequestParam(required = false) String direction) {
-        Sort sort = Sort.unsorted();
-        if (sortBy != null && direction != null) {
-            sort = Sort.by(Sort.Direction.fromString(direction), sortBy);
-        }
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Pageable pageable = PageRequest.of(page, size, toSort(sortBy, direction));
         return postService.getPostByCategory(categoryId, pageable);
 
     }
 
+    // 서브 리스트 페이지 - 카테고리별 (커서 기반, 페이지 깊이와 상관없이 일정한 조회 속도)
+    @GetMapping("/category/{categoryId}/cursor")
+    @Operation(summary = "카테고리별 게시물 커서 조회", description = "최신순, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달")
+    @Parameter(name = "categoryId", description = "조회할 카테고리의 ID ")
+    public CursorPageResponseDto<PostResponseDto> getPostByCategoryCursor(
+            @PathVariable Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int size) {
+        return postService.getPostByCategoryCursor(categoryId, cursor, size);
+    }
+
+    // 서브 리스트 페이지 - 카테고리별 (무한 스크롤, 전체 개수 없음)
+    @GetMapping("/category/{categoryId}/slice")
+    @Operation(summary = "카테고리별 게시물 무한 스크롤 조회", description = "전체 개수 없이 다음 페이지 여부(hasNext)만 반환")
+    @Parameter(name = "categoryId", description = "조회할 카테고리의 ID ")
+    public Slice<PostResponseDto> getPostSliceByCategory(
+            @PathVariable Long categoryId,
+            @RequestParam int page,
+            @RequestParam int size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String direction) {
+        Pageable pageable = PageRequest.of(page, size, toSort(sortBy, direction));
+        return postService.getPostSliceByCategory(categoryId, pageable);
+    }
+
     // 지도페이지 - 위치 서비스에 따른 카테고리별 게시글 조회
 //    @PostMapping("/map")
 //    @Operation(summary = "위치 서비스에 따른 카테고리별 게시글 조회", description = "위치 서비스에 따른 카테고리별 게시글 조회")
@@ -156,4 +198,12 @@ public class PostController {
         return postService.getMapPost(postSearchRequestDto, size);
 
     }
+
+    // 정렬 기준과 방향이 모두 주어졌을 때만 정렬, 아니면 정렬 없음
+    private Sort toSort(String sortBy, String direction) {
+        if (sortBy != null && direction != null) {
+            return Sort.by(Sort.Direction.fromString(direction), sortBy);
+        }
+        return Sort.unsorted();
+    }
 }
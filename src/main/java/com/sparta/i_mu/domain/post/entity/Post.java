@@ -24,6 +24,12 @@ import static lombok.AccessLevel.PROTECTED;
 @Builder
 @AllArgsConstructor(access = PROTECTED)
 @NoArgsConstructor(access = PROTECTED)
+@Table(indexes = {
+        // 커서(keyset) 조회용 - 카테고리/작성자 별 (createdAt, id) 내림차순
+        @Index(name = "idx_post_category_deleted_created_at", columnList = "category_id, deleted, created_at, post_id"),
+        @Index(name = "idx_post_user_deleted_created_at", columnList = "user_id, deleted, created_at, post_id"),
+        @Index(name = "idx_post_deleted_created_at", columnList = "deleted, created_at, post_id")
+})
 public class Post extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
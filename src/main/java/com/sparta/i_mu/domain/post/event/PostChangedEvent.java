@@ -0,0 +1,77 @@
+package com.sparta.i_mu.domain.post.event;
+
+import com.sparta.i_mu.domain.location.entity.Location;
+import com.sparta.i_mu.domain.post.entity.Post;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 작성/수정/삭제, 좋아요 변경 이벤트
+ * 게시글 기반으로 미리 만들어 둔 데이터(지도 타일 캐시, 인기 장소/게시글 랭킹, 자동완성, 검색 메인 스냅샷)를
+ * 커밋 이후 @TransactionalEventListener 에서 갱신하는 데 사용한다.
+ * 엔티티는 이후에 수정될 수 있으므로 발행 시점의 값을 Snapshot 으로 복사해 둔다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostChangedEvent {
+
+    private final Long postId;
+    private final ChangeType changeType;
+    private final Snapshot before; // 수정 / 삭제 전 - 작성, 좋아요는 null
+    private final Snapshot after;  // 작성 / 수정 후 - 삭제, 좋아요는 null
+    private final int wishlistCount; // 좋아요 변경 후 좋아요 수
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED, WISHLIST
+    }
+
+    public static PostChangedEvent created(Post post, List<String> songTitles) {
+        return new PostChangedEvent(post.getId(), ChangeType.CREATED, null, Snapshot.of(post, songTitles), post.getWishlistCount());
+    }
+
+    /**
+     * @param before 수정 전 게시글 - 수정 전에 Snapshot.of 로 만들어 둔다.
+     */
+    public static PostChangedEvent updated(Snapshot before, Post post, List<String> songTitles) {
+        return new PostChangedEvent(post.getId(), ChangeType.UPDATED, before, Snapshot.of(post, songTitles), post.getWishlistCount());
+    }
+
+    public static PostChangedEvent deleted(Post post) {
+        return new PostChangedEvent(post.getId(), ChangeType.DELETED, Snapshot.of(post), null, post.getWishlistCount());
+    }
+
+    public static PostChangedEvent wishlist(Post post) {
+        return new PostChangedEvent(post.getId(), ChangeType.WISHLIST, null, null, post.getWishlistCount());
+    }
+
+    /**
+     * 이벤트 발행 시점의 게시글 제목, 장소, 노래 제목
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Snapshot {
+        private final String postTitle;
+        private final String placeName;
+        private final Double latitude;
+        private final Double longitude;
+        private final List<String> songTitles;
+
+        public static Snapshot of(Post post) {
+            return of(post, post.getPostSongLink() == null ? List.of() : post.getPostSongLink().stream()
+                    .map(postSongLink -> postSongLink.getSong().getSongTitle())
+                    .toList());
+        }
+
+        public static Snapshot of(Post post, List<String> songTitles) {
+            Location location = post.getLocation();
+            return new Snapshot(post.getPostTitle(),
+                    location == null ? null : location.getPlaceName(),
+                    location == null ? null : location.getLatitude(),
+                    location == null ? null : location.getLongitude(),
+                    List.copyOf(songTitles));
+        }
+    }
+}
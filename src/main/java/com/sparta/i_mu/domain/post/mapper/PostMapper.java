@@ -2,6 +2,7 @@ package com.sparta.i_mu.domain.post.mapper;
 
 import com.sparta.i_mu.domain.post.dto.PostListResponseDto;
 import com.sparta.i_mu.domain.post.dto.PostResponseDto;
+import com.sparta.i_mu.domain.postsonglink.entity.PostSongLink;
 import com.sparta.i_mu.domain.song.dto.SongResponseDto;
 import com.sparta.i_mu.domain.post.entity.Post;
 import com.sparta.i_mu.domain.comment.repository.CommentRepository;
@@ -11,9 +12,16 @@ import com.sparta.i_mu.domain.wishlist.repository.WishlistRepository;
 import com.sparta.i_mu.global.security.UserDetailsImpl;
 import com.sparta.i_mu.domain.song.mapper.SongMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -33,28 +41,34 @@ public class PostMapper {
                 .map(postSongLink -> songMapper.entityToResponseDto(postSongLink.getSong())) // SongResponseDto로의 매핑 로직이 필요합니다
                 .collect(Collectors.toList());
 
-        return PostResponseDto.builder()
-                .userId(post.getUser().getId())
-                .postId(post.getId())
-                .viewCount(post.getViewCount())
-                .userImage(post.getUser().getUserImage())
-                .postTitle(post.getPostTitle())
-                .nickname(post.getUser().getNickname())
-                .content(post.getContent())
-                .category(post.getCategory().getId())
-                .createdAt(post.getCreatedAt())
-                .modifiedAt(post.getModifiedAt())
-                .deletedAt(post.getDeleteAt())
-                .deleted(post.getDeleted())
-                .wishlistCount(post.getWishlistCount())
-                .viewCount(post.getViewCount())
-                .songs(songs)
-                .location(post.getLocation())
-                .build();
+        return buildPostResponseDto(post, songs);
+    }
+
+    /**
+     * 게시글 리스트를 한 번에 매핑 - 페이지 단위 조회에서 사용
+     * 게시글마다 노래를 조회하지 않고, 페이지 전체의 노래를 IN 쿼리 한 번으로 가져온다.
+     * user / category / location 은 hibernate.default_batch_fetch_size 로 IN 쿼리로 묶여서 조회된다.
+     * @param posts
+     * @return 입력 순서를 유지한 PostResponseDto 리스트
+     */
+    public List<PostResponseDto> mapToPostResponseDtos(List<Post> posts) {
+        Map<Long, List<SongResponseDto>> songsByPostId = findSongsByPostIds(posts);
+
+        return posts.stream()
+                .map(post -> buildPostResponseDto(post, songsByPostId.getOrDefault(post.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
     }
 
-    // 상세 게시물 조회
-    public PostResponseDto mapToPostResponseDto(Post post, Optional<UserDetailsImpl> userDetails) {
+    public Page<PostResponseDto> mapToPostResponseDtoPage(Page<Post> posts) {
+        return new PageImpl<>(mapToPostResponseDtos(posts.getContent()), posts.getPageable(), posts.getTotalElements());
+    }
+
+    public Slice<PostResponseDto> mapToPostResponseDtoSlice(Slice<Post> posts) {
+        return new SliceImpl<>(mapToPostResponseDtos(posts.getContent()), posts.getPageable(), posts.hasNext());
+    }
+
+    // 상세 게시물 조회 - pendingViewCount : 아직 DB 에 반영되지 않은 조회수
+    public PostResponseDto mapToPostResponseDto(Post post, Optional<UserDetailsImpl> userDetails, long pendingViewCount) {
         boolean isWishlist = userDetails.isPresent() && wishlistRepository.existsByPostIdAndUserId(post.getId(), userDetails.get().getUser().getId());
         boolean isfollow = userDetails.isPresent() && followReporitory.existsByFollowUserIdAndFollowedUserId(post.getUser().getId(), userDetails.get().getUser().getId());
 
@@ -72,7 +86,7 @@ public class PostMapper {
                 .userId(post.getUser().getId())
                 .postTitle(post.getPostTitle())
                 .postId(post.getId())
-                .viewCount(post.getViewCount())
+                .viewCount(post.getViewCount() + (int) pendingViewCount)
                 .nickname(post.getUser().getNickname())
                 .userImage(post.getUser().getUserImage())
                 .content(post.getContent())
@@ -94,6 +108,68 @@ public class PostMapper {
                 .map(postSongLink -> songMapper.entityToResponseDto(postSongLink.getSong()))
                 .collect(Collectors.toList());
 
+        return buildPostListResponseDto(post, songs);
+    }
+
+    /**
+     * 작성자가 작성한 게시글 리스트를 한 번에 매핑
+     * @param posts
+     * @return 입력 순서를 유지한 PostListResponseDto 리스트
+     */
+    public List<PostListResponseDto> mapToPostListResponseDtos(List<Post> posts) {
+        Map<Long, List<SongResponseDto>> songsByPostId = findSongsByPostIds(posts);
+
+        return posts.stream()
+                .map(post -> buildPostListResponseDto(post, songsByPostId.getOrDefault(post.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    public Page<PostListResponseDto> mapToPostListResponseDtoPage(Page<Post> posts) {
+        return new PageImpl<>(mapToPostListResponseDtos(posts.getContent()), posts.getPageable(), posts.getTotalElements());
+    }
+
+    /**
+     * 게시글 id 리스트에 연결된 노래를 한 번에 조회 후 게시글 id 별로 묶는다.
+     * @param posts
+     * @return postId -> 노래 리스트
+     */
+    public Map<Long, List<SongResponseDto>> findSongsByPostIds(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .toList();
+
+        return postSongLinkRepository.findAllWithSongByPostIdIn(postIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        (PostSongLink postSongLink) -> postSongLink.getPost().getId(),
+                        Collectors.mapping(postSongLink -> songMapper.entityToResponseDto(postSongLink.getSong()), Collectors.toList())));
+    }
+
+    private PostResponseDto buildPostResponseDto(Post post, List<SongResponseDto> songs) {
+        return PostResponseDto.builder()
+                .userId(post.getUser().getId())
+                .postId(post.getId())
+                .viewCount(post.getViewCount())
+                .userImage(post.getUser().getUserImage())
+                .postTitle(post.getPostTitle())
+                .nickname(post.getUser().getNickname())
+                .content(post.getContent())
+                .category(post.getCategory().getId())
+                .createdAt(post.getCreatedAt())
+                .modifiedAt(post.getModifiedAt())
+                .deletedAt(post.getDeleteAt())
+                .deleted(post.getDeleted())
+                .wishlistCount(post.getWishlistCount())
+                .viewCount(post.getViewCount())
+                .songs(songs)
+                .location(post.getLocation())
+                .build();
+    }
+
+    private PostListResponseDto buildPostListResponseDto(Post post, List<SongResponseDto> songs) {
         return PostListResponseDto.builder()
                 .postId(post.getId())
                 .postTitle(post.getPostTitle())
@@ -106,4 +182,4 @@ public class PostMapper {
                 .build();
     }
 
-}
\ No newline at end of file
+}
@@ -17,23 +17,20 @@ public interface PostRepository extends JpaRepository<Post, Long>, CustomPostRep
 
     Optional<Post> findByIdAndDeletedFalse(Long postId);
 
-    /**
-     * 해당 키워드가 제목에 포함하는 게시글 리스트를 조회
-     * @param keyword
-     * @param pageable
-     * @return 게시글 리스트 pageable
-     */
-    Page<Post> findAllByPostTitleContainingAndDeletedFalse(String keyword, Pageable pageable);
+    List<Post> findAllByUserIdAndDeletedFalseOrderByCreatedAtDesc(Long userId);
 
     /**
-     * 해당 키워드가 주소에 포함하는 게시글 리스트를 조회
-     * @param keyword
-     * @param pageable
-     * @return 게시글 리스트 pageable
+     * 메인 페이지 - 카테고리별 최신 게시글 size 개씩을 한 번의 쿼리로 조회
+     * ROW_NUMBER() 윈도우 함수로 카테고리 안에서 최신순 순번을 매긴 뒤 size 번째까지만 가져온다.
+     * @param size 카테고리별 게시글 수
+     * @return 카테고리 오름차순, 최신순 게시글 리스트
      */
-    Page<Post> findAllByLocationAddressContainingAndDeletedFalse(String keyword, Pageable pageable);
-
-    List<Post> findAllByUserIdAndDeletedFalseOrderByCreatedAtDesc(Long userId);
+    @Query(value = "SELECT p.* FROM post p " +
+            "JOIN (SELECT post_id, ROW_NUMBER() OVER (PARTITION BY category_id ORDER BY created_at DESC, post_id DESC) AS rn " +
+            "      FROM post WHERE deleted = false) ranked ON ranked.post_id = p.post_id " +
+            "WHERE ranked.rn <= :size " +
+            "ORDER BY p.category_id, ranked.rn", nativeQuery = true)
+    List<Post> findLatestPostsPerCategory(int size);
 
     // 조회수 쿼리
 //    @Modifying
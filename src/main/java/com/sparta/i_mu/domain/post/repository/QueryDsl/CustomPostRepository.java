@@ -1,42 +1,90 @@
 package com.sparta.i_mu.domain.post.repository.QueryDsl;
 
-import com.sparta.i_mu.domain.category.entity.Category;
 import com.sparta.i_mu.domain.post.entity.Post;
+import com.sparta.i_mu.global.util.CursorUtil;
+import com.sparta.i_mu.global.util.GeoUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface CustomPostRepository {
 
     //서브 게시글 조회 - 카테고리 별 전체 조회 기본 (최신순)
     Page <Post> findSubPostsByCategoryWithOrder(Long category, Pageable pageable);
 
+    //서브 게시글 조회 - 카테고리 별 (무한 스크롤용, 전체 개수 조회 없음)
+    Slice<Post> findSubPostsSliceByCategoryWithOrder(Long category, Pageable pageable);
+
+
     /**
-     * 메인 페이지 - 카테고리별 최신순
-     * @param category
-     * @return 카테고리별로 최신순으로 post의 list를 반환.
+     * 검색 - 게시글 제목 / 주소 FULLTEXT 검색
+     * @param keyword
+     * @param pageable 정렬 조건이 없으면 관련도 순
+     * @return 검색 결과 post page
      */
-    List<Post> findMainPostsByCategory(Category category);
+    Page<Post> searchByPostTitle(String keyword, Pageable pageable);
 
+    Page<Post> searchByLocationAddress(String keyword, Pageable pageable);
 
     /**
-     * 메인 페이지 - 좋아요 순을 기준으로 인기 게시글 조회
+     * 커서 기반 조회 - (createdAt, id) 내림차순으로 커서 이후의 게시글을 size + 1 개까지 조회
+     * @param cursor 첫 페이지는 null
+     */
+    List<Post> findCategoryPostsByCursor(Long category, CursorUtil.Cursor cursor, int size);
+
+    List<Post> findNearbyPostsByCursor(Double longitude, Double latitude, Double DISTANCE_IN_METERS, CursorUtil.Cursor cursor, int size);
+
+    List<Post> findUserPostsByCursor(Long userId, CursorUtil.Cursor cursor, int size);
+
+    /**
+     * 메인 페이지 - 좋아요 순을 기준으로 인기 게시글 조회 (랭킹이 비어있을 때의 대체 조회)
+     * @param size
      * @return
      */
-    List<Post> findAllByOrderByWishlistCountDesc();
+    List<Post> findAllByOrderByWishlistCountDesc(int size);
 
     /**
-     * 메인 페이지 - 조회수 순을 기준으로 인기 게시글 조회
+     * 메인 페이지 - 조회수 순을 기준으로 인기 게시글 조회 (랭킹이 비어있을 때의 대체 조회)
+     * @param size
      * @return
      */
-    List<Post> findAllByOrderByViewCountDesc();
+    List<Post> findAllByOrderByViewCountDesc(int size);
+
+    /**
+     * 인기 게시글 랭킹 보정용 - 좋아요 수 상위 게시글의 id, 좋아요 수
+     * @param size
+     * @return postId -> 좋아요 수 (좋아요 수 내림차순)
+     */
+    Map<Long, Integer> findWishlistCountRanking(int size);
+
+    /**
+     * 인기 게시글 랭킹 보정용 - 조회수 상위 게시글의 id, 조회수
+     * @param size
+     * @return postId -> 조회수 (조회수 내림차순)
+     */
+    Map<Long, Integer> findViewCountRanking(int size);
+
+    /**
+     * 삭제되지 않은 게시글의 현재 조회수
+     * @param postIds
+     * @return postId -> 조회수
+     */
+    Map<Long, Integer> findViewCountsByIdIn(Collection<Long> postIds);
 
     /**
      * 상세 게시물 페이지 내 주변
      */
     Page<Post> findAllByLocationNearOrderByCreatedAtDesc(Double longitude, Double latitude,  Double DISTANCE_IN_METERS, Pageable pageable);
 
+    /**
+     * 상세 게시물 페이지 내 주변 (무한 스크롤용, 전체 개수 조회 없음)
+     */
+    Slice<Post> findAllSliceByLocationNear(Double longitude, Double latitude, Double DISTANCE_IN_METERS, Pageable pageable);
+
 
     /**
      * 지도페이지 - 위치에 따른 카테고리별 조회
@@ -60,6 +108,13 @@ public interface CustomPostRepository {
                                      Double DISTANCE_IN_METERS,
                                      int size);
 
+    /**
+     * 지도페이지 - 위도/경도 사각 범위 안의 게시글 전체 조회 (타일 캐시 적재용)
+     * @param box
+     * @return 범위 안의 삭제되지 않은 게시글
+     */
+    List<Post> findAllByLocationWithin(GeoUtil.BoundingBox box);
+
 
     // 조회수
 //    void viewCountUpdate(Long postId);
@@ -1,23 +1,34 @@
 package com.sparta.i_mu.domain.post.repository.QueryDsl;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.sparta.i_mu.domain.category.entity.Category;
 import com.sparta.i_mu.domain.post.entity.Post;
 import com.sparta.i_mu.domain.post.entity.QPost;
-import com.sparta.i_mu.domain.wishlist.entity.QWishlist;
+import com.sparta.i_mu.global.util.CursorUtil;
+import com.sparta.i_mu.global.util.FullTextSearch;
+import com.sparta.i_mu.global.util.GeoUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @Slf4j
@@ -28,6 +39,7 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
 
     /**
      * 서브 게시글 조회 - 카테고리 별 전체 조회 기본(최신순)
+     * 전체 개수는 count 쿼리로 따로 조회하고, 첫 페이지/마지막 페이지처럼 개수를 알 수 있는 경우에는 생략한다.
      *
      * @param category
      * @param pageable
@@ -38,19 +50,40 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
         QPost qPost = QPost.post;  // Q 클래스 인스턴스 생성
 
         List<Post> posts = jpaQueryFactory.selectFrom(qPost)
-                .where(qPost.category.id.eq(category)
-                        .and(qPost.deleted.eq(false)))
+                .where(categoryCondition(qPost, category))
                 .orderBy(getOrderSpecifiers(pageable.getSort()))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = jpaQueryFactory.selectFrom(qPost)
-                .where(qPost.category.id.eq(category)
-                        .and(qPost.deleted.eq(false)))
-                .fetch().size();
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(qPost.count())
+                .from(qPost)
+                .where(categoryCondition(qPost, category));
+
+        return PageableExecutionUtils.getPage(posts, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 서브 게시글 조회 - 카테고리 별 (무한 스크롤용)
+     * 전체 개수 없이 size + 1 개를 조회해서 다음 페이지 여부만 판단한다.
+     *
+     * @param category
+     * @param pageable
+     * @return 다음 페이지 여부를 포함한 post slice
+     */
+    @Override
+    public Slice<Post> findSubPostsSliceByCategoryWithOrder(Long category, Pageable pageable) {
+        QPost qPost = QPost.post;
 
-        return new PageImpl<>(posts, pageable, total);
+        List<Post> posts = jpaQueryFactory.selectFrom(qPost)
+                .where(categoryCondition(qPost, category))
+                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        return toSlice(posts, pageable);
     }
 
     /**
@@ -61,21 +94,170 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
         QPost qPost = QPost.post;
         List<Post> posts = jpaQueryFactory
                 .selectFrom(qPost)
-                .where(MySQLFunctions.stDistanceSphere(qPost.location.longitude, qPost.location.latitude, longitude, latitude).loe(DISTANCE_IN_METERS)
+                .where(withinDistance(qPost, longitude, latitude, DISTANCE_IN_METERS)
                         .and(qPost.deleted.eq(false)))
                 .orderBy(getOrderSpecifiers(pageable.getSort()))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 총 게시물 수 조회
-        long total = jpaQueryFactory
+        // 총 게시물 수 조회 - 필요한 경우에만 count 쿼리 실행
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(qPost.count())
+                .from(qPost)
+                .where(withinDistance(qPost, longitude, latitude, DISTANCE_IN_METERS)
+                        .and(qPost.deleted.eq(false)));
+
+        return PageableExecutionUtils.getPage(posts, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 서브 게시글 리스트 조회 - 내 주변 (무한 스크롤용)
+     */
+    @Override
+    public Slice<Post> findAllSliceByLocationNear(Double longitude, Double latitude, Double DISTANCE_IN_METERS, Pageable pageable) {
+        QPost qPost = QPost.post;
+        List<Post> posts = jpaQueryFactory
                 .selectFrom(qPost)
-                .where(MySQLFunctions.stDistanceSphere(qPost.location.longitude, qPost.location.latitude, longitude, latitude).loe(DISTANCE_IN_METERS)
+                .where(withinDistance(qPost, longitude, latitude, DISTANCE_IN_METERS)
                         .and(qPost.deleted.eq(false)))
-                .fetch().size();
+                .orderBy(getOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
 
-        return new PageImpl<>(posts, pageable, total);
+        return toSlice(posts, pageable);
+    }
+
+    /**
+     * 카테고리 별 게시글 커서 조회 (최신순)
+     * OFFSET 없이 (createdAt, id) 보다 뒤의 행부터 읽기 때문에 페이지 깊이와 상관없이 일정한 속도로 조회된다.
+     *
+     * @param category
+     * @param cursor 마지막으로 받은 게시글, 첫 페이지는 null
+     * @param size
+     * @return size + 1 개까지의 post (다음 페이지 여부 판단용)
+     */
+    @Override
+    public List<Post> findCategoryPostsByCursor(Long category, CursorUtil.Cursor cursor, int size) {
+        QPost qPost = QPost.post;
+
+        return jpaQueryFactory.selectFrom(qPost)
+                .where(categoryCondition(qPost, category), afterCursor(qPost, cursor))
+                .orderBy(qPost.createdAt.desc(), qPost.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    @Override
+    public List<Post> findNearbyPostsByCursor(Double longitude, Double latitude, Double DISTANCE_IN_METERS, CursorUtil.Cursor cursor, int size) {
+        QPost qPost = QPost.post;
+
+        return jpaQueryFactory.selectFrom(qPost)
+                .where(withinDistance(qPost, longitude, latitude, DISTANCE_IN_METERS)
+                                .and(qPost.deleted.eq(false)),
+                        afterCursor(qPost, cursor))
+                .orderBy(qPost.createdAt.desc(), qPost.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    @Override
+    public List<Post> findUserPostsByCursor(Long userId, CursorUtil.Cursor cursor, int size) {
+        QPost qPost = QPost.post;
+
+        return jpaQueryFactory.selectFrom(qPost)
+                .where(qPost.user.id.eq(userId)
+                                .and(qPost.deleted.eq(false)),
+                        afterCursor(qPost, cursor))
+                .orderBy(qPost.createdAt.desc(), qPost.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    // (createdAt, id) 가 커서보다 뒤(과거)인 행 - 첫 페이지는 조건 없음
+    private BooleanExpression afterCursor(QPost qPost, CursorUtil.Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return qPost.createdAt.lt(cursor.getCreatedAt())
+                .or(qPost.createdAt.eq(cursor.getCreatedAt())
+                        .and(qPost.id.lt(cursor.getId())));
+    }
+
+    /**
+     * 검색 - 게시글 제목 (FULLTEXT)
+     * 정렬 조건이 없으면 관련도 순으로 정렬한다.
+     */
+    @Override
+    public Page<Post> searchByPostTitle(String keyword, Pageable pageable) {
+        return searchPosts(QPost.post.postTitle, keyword, pageable);
+    }
+
+    /**
+     * 검색 - 게시글 주소 (FULLTEXT)
+     */
+    @Override
+    public Page<Post> searchByLocationAddress(String keyword, Pageable pageable) {
+        return searchPosts(QPost.post.location.address, keyword, pageable);
+    }
+
+    private Page<Post> searchPosts(StringPath column, String keyword, Pageable pageable) {
+        QPost qPost = QPost.post;
+        BooleanExpression condition = FullTextSearch.matches(column, keyword)
+                .and(qPost.deleted.eq(false));
+
+        OrderSpecifier[] orderSpecifiers = getOrderSpecifiers(pageable.getSort());
+        if (pageable.getSort().isUnsorted()) {
+            orderSpecifiers = FullTextSearch.isFullTextSearchable(keyword)
+                    ? new OrderSpecifier[]{FullTextSearch.relevance(column, keyword).desc(), qPost.createdAt.desc()}
+                    : new OrderSpecifier[]{qPost.createdAt.desc()};
+        }
+
+        List<Post> posts = jpaQueryFactory.selectFrom(qPost)
+                .where(condition)
+                .orderBy(orderSpecifiers)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(qPost.count())
+                .from(qPost)
+                .where(condition);
+
+        return PageableExecutionUtils.getPage(posts, pageable, countQuery::fetchOne);
+    }
+
+    private BooleanExpression categoryCondition(QPost qPost, Long category) {
+        return qPost.category.id.eq(category)
+                .and(qPost.deleted.eq(false));
+    }
+
+    // size + 1 개를 조회한 결과로 다음 페이지 여부 판단
+    private Slice<Post> toSlice(List<Post> posts, Pageable pageable) {
+        boolean hasNext = posts.size() > pageable.getPageSize();
+        if (hasNext) {
+            posts = posts.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(posts, pageable, hasNext);
+    }
+
+    /**
+     * 반경 조건 - 인덱스를 탈 수 있는 위도/경도 범위 조건으로 후보를 먼저 줄이고,
+     * 범위 안에 들어온 후보에 대해서만 ST_Distance_Sphere 로 정확한 거리를 비교한다.
+     *
+     * @param qPost
+     * @param longitude
+     * @param latitude
+     * @param distanceInMeters
+     * @return 반경 조건
+     */
+    private BooleanExpression withinDistance(QPost qPost, Double longitude, Double latitude, Double distanceInMeters) {
+        GeoUtil.BoundingBox box = GeoUtil.boundingBox(longitude, latitude, distanceInMeters);
+        return qPost.location.latitude.between(box.getMinLatitude(), box.getMaxLatitude())
+                .and(qPost.location.longitude.between(box.getMinLongitude(), box.getMaxLongitude()))
+                .and(MySQLFunctions.stDistanceSphere(qPost.location.longitude, qPost.location.latitude, longitude, latitude).loe(distanceInMeters));
     }
 
     /**
@@ -101,53 +283,89 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
     }
 
     /**
-     * 메인 페이지 - 카테고리별 최신순으로 게시글 조회
-     *
-     * @param category
+     * 메인페이지 - 좋아요 순을 기준으로 인기 게시글 내림차순
+     * 좋아요 테이블을 집계하지 않고 게시글의 좋아요 수 컬럼으로 정렬한다.
+     * @param size
      * @return
      */
     @Override
-    public List<Post> findMainPostsByCategory(Category category) {
+    public List<Post> findAllByOrderByWishlistCountDesc(int size) {
         QPost qPost = QPost.post;
+
         return jpaQueryFactory
                 .selectFrom(qPost)
-                .where(qPost.deleted.isFalse() // deleted 필드가 false인 조건
-                        .and(qPost.category.eq(category))) // 주어진 category와 일치하는 조건
-                .orderBy(qPost.createdAt.desc()) // 생성 날짜를 기준으로 내림차순 정렬
+                .where(qPost.deleted.eq(false)
+                        .and(qPost.wishlistCount.gt(0)))
+                .orderBy(qPost.wishlistCount.desc(), qPost.createdAt.desc()) //동일한 값은 최신순으로
+                .limit(size)
                 .fetch();
     }
 
     /**
-     * 메인페이지 - 좋아요 순을 기준으로 인기 게시글 내림차순
+     * 메인페이지 - 조회수 순을 기준으로 인기 게시글 내림차순
+     * @param size
      * @return
      */
-    public List<Post> findAllByOrderByWishlistCountDesc() {
+    @Override
+    public List<Post> findAllByOrderByViewCountDesc(int size) {
         QPost qPost = QPost.post;
-        QWishlist qWishlist = QWishlist.wishlist;
 
         return jpaQueryFactory
                 .selectFrom(qPost)
-                .join(qWishlist).on(qPost.id.eq(qWishlist.post.id))
                 .where(qPost.deleted.eq(false))
-                .groupBy(qPost) //그룹화 한 후 개수조회
-                .orderBy(qWishlist.count().desc(), qPost.createdAt.desc()) //동일한 값은 최신순으로
-                .limit(5)
+                .orderBy(qPost.viewCount.desc(), qPost.createdAt.desc()) //동일한 값은 최신순으로
+                .limit(size)
                 .fetch();
     }
 
-    /**
-     * 메인페이지 - 조회수 순을 기준으로 인기 게시글 내림차순
-     * @return
-     */
-    public List<Post> findAllByOrderByViewCountDesc() {
+    @Override
+    public Map<Long, Integer> findWishlistCountRanking(int size) {
         QPost qPost = QPost.post;
 
-        return jpaQueryFactory
-                .selectFrom(qPost)
-                .where(qPost.deleted.eq(false))
-                .orderBy(qPost.viewCount.desc(), qPost.createdAt.desc()) //동일한 값은 최신순으로
-                .limit(5)
-                .fetch();
+        return toCountMap(jpaQueryFactory
+                .select(qPost.id, qPost.wishlistCount)
+                .from(qPost)
+                .where(qPost.deleted.eq(false)
+                        .and(qPost.wishlistCount.gt(0)))
+                .orderBy(qPost.wishlistCount.desc(), qPost.createdAt.desc())
+                .limit(size)
+                .fetch(), qPost.wishlistCount);
+    }
+
+    @Override
+    public Map<Long, Integer> findViewCountRanking(int size) {
+        QPost qPost = QPost.post;
+
+        return toCountMap(jpaQueryFactory
+                .select(qPost.id, qPost.viewCount)
+                .from(qPost)
+                .where(qPost.deleted.eq(false)
+                        .and(qPost.viewCount.gt(0)))
+                .orderBy(qPost.viewCount.desc(), qPost.createdAt.desc())
+                .limit(size)
+                .fetch(), qPost.viewCount);
+    }
+
+    @Override
+    public Map<Long, Integer> findViewCountsByIdIn(Collection<Long> postIds) {
+        QPost qPost = QPost.post;
+        if (postIds.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+
+        return toCountMap(jpaQueryFactory
+                .select(qPost.id, qPost.viewCount)
+                .from(qPost)
+                .where(qPost.id.in(postIds)
+                        .and(qPost.deleted.eq(false)))
+                .fetch(), qPost.viewCount);
+    }
+
+    // 조회 순서를 유지한 postId -> count
+    private Map<Long, Integer> toCountMap(List<Tuple> tuples, NumberPath<Integer> count) {
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        tuples.forEach(tuple -> counts.put(tuple.get(QPost.post.id), tuple.get(count)));
+        return counts;
     }
 
 
@@ -239,13 +457,27 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
         return jpaQueryFactory
                 .selectFrom(qPost)
                 .where(qPost.deleted.eq(false)
-                        .and(MySQLFunctions.stDistanceSphere(
-                                qPost.location.longitude,
-                                qPost.location.latitude,
-                                longitude, latitude).loe(DISTANCE_IN_METERS)))
+                        .and(withinDistance(qPost, longitude, latitude, DISTANCE_IN_METERS)))
                 .orderBy(MySQLFunctions.stDistanceSphere(qPost.location.longitude, qPost.location.latitude, longitude, latitude).asc())
                 .limit(size)
                 .fetch();
     }
 
+    /**
+     * 지도페이지 - 사각 범위 안의 게시글 조회
+     * @param box
+     * @return
+     */
+    @Override
+    public List<Post> findAllByLocationWithin(GeoUtil.BoundingBox box) {
+        QPost qPost = QPost.post;
+
+        return jpaQueryFactory
+                .selectFrom(qPost)
+                .where(qPost.deleted.eq(false)
+                        .and(qPost.location.latitude.between(box.getMinLatitude(), box.getMaxLatitude()))
+                        .and(qPost.location.longitude.between(box.getMinLongitude(), box.getMaxLongitude())))
+                .fetch();
+    }
+
 }
@@ -0,0 +1,179 @@
+package com.sparta.i_mu.domain.post.service;
+
+import com.sparta.i_mu.domain.location.entity.Location;
+import com.sparta.i_mu.domain.post.dto.PostResponseDto;
+import com.sparta.i_mu.domain.post.entity.Post;
+import com.sparta.i_mu.domain.post.event.PostChangedEvent;
+import com.sparta.i_mu.domain.post.mapper.PostMapper;
+import com.sparta.i_mu.domain.post.repository.PostRepository;
+import com.sparta.i_mu.global.util.GeoUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 지도페이지 타일 캐시
+ * geohash 셀(타일) 단위로 게시글 요약을 메모리에 들고 있다가,
+ * 지도 조회 시 화면 반경을 덮는 타일들을 합쳐서 응답한다.
+ * 게시글 작성/수정/삭제 이벤트(커밋 이후)에 해당 위치의 타일만 무효화하고, 전체 게시글 수(타일 가중치) 기준으로 제거한다.
+ * 조회는 잠금 없이 처리하고, 타일 적재와 무효화만 순서를 맞추기 위해 잠근다.
+ */
+@Slf4j
+@Component
+public class MapPostCache {
+
+    private static final int GEOHASH_PRECISION = 5; // 약 4.9km x 4.9km
+    private static final int MAX_CACHED_POSTS = 50_000;
+    private static final Duration TILE_TTL = Duration.ofMinutes(5); // 닉네임, 조회수 등 반영을 위한 만료 시간
+
+    private final PostRepository postRepository;
+    private final PostMapper postMapper;
+
+    // geohash -> 타일 게시글, 게시글 수를 가중치로 MAX_CACHED_POSTS 까지 보관
+    private final Cache<String, List<PostResponseDto>> tiles;
+    // 타일 적재 중 무효화가 일어났는지 확인하기 위한 순번
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public MapPostCache(PostRepository postRepository, PostMapper postMapper, MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.postMapper = postMapper;
+        this.hitCounter = Counter.builder("map.tile.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("map.tile.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.evictionCounter = Counter.builder("map.tile.cache.evictions").register(meterRegistry);
+        this.tiles = Caffeine.newBuilder()
+                .maximumWeight(MAX_CACHED_POSTS)
+                .weigher((String geohash, List<PostResponseDto> posts) -> posts.size())
+                .expireAfterWrite(TILE_TTL)
+                .removalListener((String geohash, List<PostResponseDto> posts, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        evictionCounter.increment();
+                    }
+                })
+                .build();
+        Gauge.builder("map.tile.cache.tiles", this, MapPostCache::tileCount).register(meterRegistry);
+        Gauge.builder("map.tile.cache.posts", this, MapPostCache::postCount).register(meterRegistry);
+    }
+
+    /**
+     * 중심 좌표 반경 안의 게시글을 가까운 순으로 조회
+     *
+     * @param longitude
+     * @param latitude
+     * @param distanceInMeters
+     * @param size
+     * @return 반경 안의 게시글 (거리 오름차순)
+     */
+    public List<PostResponseDto> findNear(Double longitude, Double latitude, Double distanceInMeters, int size) {
+        Set<String> geohashes = GeoUtil.geohashesCovering(GeoUtil.boundingBox(longitude, latitude, distanceInMeters), GEOHASH_PRECISION);
+
+        List<PostResponseDto> candidates = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        for (String geohash : geohashes) {
+            List<PostResponseDto> tilePosts = tiles.getIfPresent(geohash);
+            if (tilePosts != null) {
+                candidates.addAll(tilePosts);
+            } else {
+                missing.add(geohash);
+            }
+        }
+        hitCounter.increment(geohashes.size() - missing.size());
+        missCounter.increment(missing.size());
+
+        if (!missing.isEmpty()) {
+            loadTiles(missing).values().forEach(candidates::addAll);
+        }
+
+        return candidates.stream()
+                .filter(post -> post.getLocation() != null)
+                .filter(post -> distanceOf(post, longitude, latitude) <= distanceInMeters)
+                .sorted(Comparator.comparingDouble(post -> distanceOf(post, longitude, latitude)))
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 게시글 작성/수정/삭제 - 커밋 이후 수정 전/후 위치가 속한 타일 무효화
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        evict(event.getBefore());
+        evict(event.getAfter());
+    }
+
+    private void evict(PostChangedEvent.Snapshot post) {
+        if (post == null || post.getLatitude() == null || post.getLongitude() == null) {
+            return;
+        }
+        removeTile(GeoUtil.geohash(post.getLongitude(), post.getLatitude(), GEOHASH_PRECISION));
+    }
+
+    /**
+     * 비어있는 타일들을 한 번의 범위 쿼리로 적재
+     * @param geohashes
+     * @return geohash -> 타일 게시글
+     */
+    private Map<String, List<PostResponseDto>> loadTiles(List<String> geohashes) {
+        long sequence = invalidationSequence.get();
+
+        double minLatitude = 90.0, maxLatitude = -90.0, minLongitude = 180.0, maxLongitude = -180.0;
+        for (String geohash : geohashes) {
+            GeoUtil.BoundingBox bounds = GeoUtil.geohashBounds(geohash);
+            minLatitude = Math.min(minLatitude, bounds.getMinLatitude());
+            maxLatitude = Math.max(maxLatitude, bounds.getMaxLatitude());
+            minLongitude = Math.min(minLongitude, bounds.getMinLongitude());
+            maxLongitude = Math.max(maxLongitude, bounds.getMaxLongitude());
+        }
+        List<Post> posts = postRepository.findAllByLocationWithin(new GeoUtil.BoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude));
+
+        Map<String, List<PostResponseDto>> loaded = new HashMap<>();
+        geohashes.forEach(geohash -> loaded.put(geohash, new ArrayList<>()));
+        for (PostResponseDto post : postMapper.mapToPostResponseDtos(posts)) {
+            Location location = post.getLocation();
+            List<PostResponseDto> tilePosts = loaded.get(GeoUtil.geohash(location.getLongitude(), location.getLatitude(), GEOHASH_PRECISION));
+            if (tilePosts != null) {
+                tilePosts.add(post);
+            }
+        }
+
+        synchronized (this) {
+            // 적재하는 동안 무효화가 있었다면 이번 결과는 응답에만 사용하고 캐시에 넣지 않는다.
+            if (sequence == invalidationSequence.get()) {
+                loaded.forEach((geohash, tilePosts) -> tiles.put(geohash, List.copyOf(tilePosts)));
+            }
+        }
+        return loaded;
+    }
+
+    private synchronized void removeTile(String geohash) {
+        invalidationSequence.incrementAndGet();
+        tiles.invalidate(geohash);
+    }
+
+    private long tileCount() {
+        return tiles.estimatedSize();
+    }
+
+    private long postCount() {
+        return tiles.asMap().values().stream().mapToLong(List::size).sum();
+    }
+
+    private double distanceOf(PostResponseDto post, Double longitude, Double latitude) {
+        return GeoUtil.distanceInMeters(post.getLocation().getLongitude(), post.getLocation().getLatitude(), longitude, latitude);
+    }
+}
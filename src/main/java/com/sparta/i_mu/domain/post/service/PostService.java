@@ -6,11 +6,14 @@ import com.sparta.i_mu.domain.category.repository.CategoryRepository;
 import com.sparta.i_mu.domain.location.entity.Location;
 import com.sparta.i_mu.domain.location.repository.LocationRepository;
 import com.sparta.i_mu.domain.post.entity.Post;
+import com.sparta.i_mu.domain.post.event.PostChangedEvent;
 import com.sparta.i_mu.domain.post.repository.PostRepository;
 import com.sparta.i_mu.domain.postsonglink.entity.PostSongLink;
 import com.sparta.i_mu.domain.postsonglink.repository.PostSongLinkRepository;
+import com.sparta.i_mu.domain.song.dto.SongSaveRequestDto;
 import com.sparta.i_mu.domain.song.entity.Song;
-import com.sparta.i_mu.domain.song.repository.SongRepository;
+import com.sparta.i_mu.domain.song.service.SongResolver;
+import com.sparta.i_mu.domain.song.service.SongStatsService;
 import com.sparta.i_mu.domain.user.entity.User;
 import com.sparta.i_mu.domain.post.dto.MapPostSearchRequestDto;
 import com.sparta.i_mu.domain.post.dto.PostSaveRequestDto;
@@ -18,7 +21,9 @@ import com.sparta.i_mu.domain.post.dto.PostByCategoryResponseDto;
 import com.sparta.i_mu.domain.post.dto.PostResponseDto;
 import com.sparta.i_mu.domain.post.dto.TopPostResponseDto;
 import com.sparta.i_mu.global.errorCode.ErrorCode;
+import com.sparta.i_mu.global.responseResource.CursorPageResponseDto;
 import com.sparta.i_mu.global.responseResource.ResponseResource;
+import com.sparta.i_mu.global.util.CursorUtil;
 import com.sparta.i_mu.global.util.RedisUtil;
 import com.sparta.i_mu.domain.post.mapper.PostMapper;
 import com.sparta.i_mu.global.security.UserDetailsImpl;
@@ -27,9 +32,10 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,8 +48,6 @@ import java.time.ZoneOffset;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.sparta.i_mu.domain.song.mapper.SongMapper.SONG_INSTANCE;
-
 
 // 전체 게시글 카테고리별 전체 조회 -> O
 // 지도페이지에서 검색시 주변 게시글 조회
@@ -58,13 +62,19 @@ import static com.sparta.i_mu.domain.song.mapper.SongMapper.SONG_INSTANCE;
 public class PostService {
 
     private final PostRepository postRepository;
-    private final SongRepository songRepository;
     private final PostSongLinkRepository postSongLinkRepository;
     private final LocationRepository locationRepository;
     private final CategoryRepository categoryRepository;
     private final PostMapper postMapper;
     private final RedisUtil redisUtil;
+    private final MapPostCache mapPostCache;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final TopPostRanking topPostRanking;
+    private final SongResolver songResolver;
+    private final SongStatsService songStatsService;
+    private final ApplicationEventPublisher eventPublisher;
     private static final Double DISTANCE_IN_METERS = 10000.0;
+    private static final int MAIN_POST_SIZE = 3;
 
     //게시글 생성
     @Transactional
@@ -96,16 +106,14 @@ public class PostService {
 
         postRepository.save(post);
 
-        // 노래 list Song에 저장 후 각 PostSongLink 생성
-        postSaveRequestDto.getSongs().stream()
-                .map(songSaveRequestDto -> songRepository.findBySongNum(songSaveRequestDto.getSongNum())
-                        .orElseGet(() -> {
-                            Song newSong = SONG_INSTANCE.requestDtoToEntity(songSaveRequestDto);
-                            songRepository.save(newSong);
-                            return newSong;
-                        })
-                ).map(post::addPostSongLink)
-                .forEach(postSongLinkRepository::save);
+        // 노래 list 를 한 번에 조회/저장 후 PostSongLink 배치 insert
+        Map<String, Song> songs = songResolver.resolve(postSaveRequestDto.getSongs());
+        postSongLinkRepository.saveAll(songs.values().stream()
+                .map(post::addPostSongLink)
+                .toList());
+        songStatsService.increment(category.getId(), songs.values().stream().map(Song::getId).toList());
+        // 지도 타일, 인기 장소, 자동완성 등은 커밋 이후 이벤트로 갱신
+        eventPublisher.publishEvent(PostChangedEvent.created(post, songTitlesOf(postSaveRequestDto)));
 
         //postId 반환 값 넣어주기
         Map<String, Long> response = new HashMap<>();
@@ -130,21 +138,33 @@ public class PostService {
         Category newCategory = categoryRepository.findById(postRequestDto.getCategory())
                 .orElseThrow(() -> new IllegalArgumentException("해당 카테고리가 존재하지 않습니다."));
 
+        // 위치, 제목, 노래가 바뀌는 경우를 위해 수정 전 값을 복사해 둔다.
+        PostChangedEvent.Snapshot before = PostChangedEvent.Snapshot.of(post);
+        // 노래 인기 통계는 수정 전 노래/카테고리를 빼고 수정 후 노래/카테고리를 더한다.
+        songStatsService.decrement(post.getCategory().getId(), songStatsService.songIdsOf(post));
         // 1. 현재 post와 연결되어있는 song의 id조회
         Set<String> songsNum = fetchExistingSongsNum(post);
-        // 2. 업데이트 될 song id 조회 후 없는 것은 추가 후 집합으로 가져오기
-        Set<String> newSongsNum = fetchNewSongsNum(postRequestDto);
+        // 2. 업데이트 될 song 조회 후 없는 것은 한 번에 추가
+        Map<String, Song> newSongs = songResolver.resolve(postRequestDto.getSongs());
         // 3. 기존 노래 중 새로운 노래 목록에 없는 노래들 postSongLink삭제
-        removeOldSongs(post, newSongsNum);
+        removeOldSongs(post, newSongs.keySet());
         // 4. 기존 노래에 없는 새로운 노래를 postSongLink에 추가
-        addNewSongs(post, newSongsNum, songsNum);
+        addNewSongs(post, newSongs, songsNum);
 
         post.update(postRequestDto, newCategory);
         postRepository.save(post);
+        songStatsService.increment(newCategory.getId(), newSongs.values().stream().map(Song::getId).toList());
+        eventPublisher.publishEvent(PostChangedEvent.updated(before, post, songTitlesOf(postRequestDto)));
         return ResponseResource.message("게시물이 업데이트 되었습니다.", HttpStatus.OK);
     }
 
 
+    private List<String> songTitlesOf(PostSaveRequestDto postSaveRequestDto) {
+        return postSaveRequestDto.getSongs().stream()
+                .map(SongSaveRequestDto::getSongTitle)
+                .toList();
+    }
+
     // 1. 현재 post와 연결되어있는 song의 id조회
     private Set<String> fetchExistingSongsNum(Post post) {
         Set<String> songsNum = post.getPostSongLink().stream()
@@ -153,19 +173,6 @@ public class PostService {
         return songsNum;
     }
 
-    // 2. 업데이트 될 song id 조회 후 없는 것은 추가 후 집합으로 가져오기
-    private Set<String> fetchNewSongsNum(PostSaveRequestDto postRequestDto) {
-        return postRequestDto.getSongs().stream()
-                .map(songSaveRequestDto -> songRepository.findBySongNum(songSaveRequestDto.getSongNum())
-                        .orElseGet(() -> {
-                            Song newSong = SONG_INSTANCE.requestDtoToEntity(songSaveRequestDto);
-                            songRepository.save(newSong);
-                            return newSong;
-                        })
-                )
-                .map(Song::getSongNum).collect(Collectors.toSet());
-    }
-
     // 3. 기존 노래 중 새로운 노래 목록에 없는 노래들 postSongLink삭제
     private void removeOldSongs(Post post, Set<String> newSongsNum) {
         List<PostSongLink> linksToRemove = post.getPostSongLink().stream()
@@ -179,14 +186,11 @@ public class PostService {
     }
 
     // 4. 기존 노래에 없는 새로운 노래를 postSongLink에 추가
-    private void addNewSongs(Post post, Set<String> newSongsNum, Set<String> songsNum) {
-
-        newSongsNum.stream()
-                .filter(songNum -> !songsNum.contains(songNum))
-                .map(songNum -> songRepository.findBySongNum(songNum)
-                        .orElseThrow(() -> new IllegalArgumentException("해당 곡은 존재하지 않습니다.")))
+    private void addNewSongs(Post post, Map<String, Song> newSongs, Set<String> songsNum) {
+        postSongLinkRepository.saveAll(newSongs.values().stream()
+                .filter(song -> !songsNum.contains(song.getSongNum()))
                 .map(post::addPostSongLink)
-                .forEach(postSongLinkRepository::save);
+                .toList());
     }
 
 
@@ -211,6 +215,8 @@ public class PostService {
                 });
         post.setDeletedAt(LocalDateTime.now());
         post.setDeleted(true);
+        songStatsService.removePost(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(post));
         return ResponseResource.message("해당 게시글 삭제를 완료하였습니다.", HttpStatus.OK);
 
     }
@@ -218,29 +224,24 @@ public class PostService {
 
     // 메인페이지 관련
 
-    // 카테고리 별 전체 게시글 조회 3개 최신순 -> queryDsl 적용✅
+    // 카테고리 별 전체 게시글 조회 3개 최신순 -> 윈도우 함수로 카테고리별 상위 3개를 한 번에 조회
     public List<PostByCategoryResponseDto> getAllPost() {
 
         List<Category> categories = categoryRepository.findAll();
-        return categories.stream().sorted(Comparator.comparing(Category::getId))
-                .map(category -> {
-                    List<Post> posts = postRepository.findMainPostsByCategory(category);
-                    List<PostResponseDto> postResponseDtoList = posts.stream()
-                            .map(postMapper::mapToPostResponseDto)
-                            .limit(3)
-                            .collect(Collectors.toList());
-
-                    return PostByCategoryResponseDto.builder()
-                            .category(category.getId()) // check 현재는 객체로
-                            .postByCategoryResponseDtoList(postResponseDtoList)
-                            .build();
+        Map<Long, List<PostResponseDto>> postsByCategory = postMapper.mapToPostResponseDtos(postRepository.findLatestPostsPerCategory(MAIN_POST_SIZE))
+                .stream()
+                .collect(Collectors.groupingBy(PostResponseDto::getCategory));
 
-                }).collect(Collectors.toList());
+        return categories.stream().sorted(Comparator.comparing(Category::getId))
+                .map(category -> PostByCategoryResponseDto.builder()
+                        .category(category.getId()) // check 현재는 객체로
+                        .postByCategoryResponseDtoList(postsByCategory.getOrDefault(category.getId(), new ArrayList<>()))
+                        .build())
+                .collect(Collectors.toList());
 
     }
 
-    // 좋아요 순 인기 게시글 내림차순 조회 top5 만 -> queryDsl 적용✅
-    @Cacheable(value = "topPostCache", cacheManager = "redisCacheManager")
+    // 좋아요 순, 조회수 순 인기 게시글 top5 -> Redis ZSET 랭킹에서 조회
     public TopPostResponseDto getPostByTopList() {
         List<PostResponseDto> wishlistTopPosts = getTopPostsByWishlist();
         List<PostResponseDto> viewCountTopPosts = getTopPostsByViewCount();
@@ -248,17 +249,11 @@ public class PostService {
     }
 
     public List<PostResponseDto> getTopPostsByWishlist() {
-       return postRepository.findAllByOrderByWishlistCountDesc() .stream()
-                .map(postMapper::mapToPostResponseDto)
-//                .limit(5)
-                .collect(Collectors.toList());
+       return postMapper.mapToPostResponseDtos(topPostRanking.getTopPostsByWishlist());
     }
 
     public List<PostResponseDto> getTopPostsByViewCount() {
-        return postRepository.findAllByOrderByViewCountDesc() .stream()
-                .map(postMapper::mapToPostResponseDto)
-//                .limit(5)
-                .collect(Collectors.toList());
+        return postMapper.mapToPostResponseDtos(topPostRanking.getTopPostsByViewCount());
     }
     // 서브게시물 페이지
 
@@ -270,46 +265,68 @@ public class PostService {
         Double latitude = postSearchRequestDto.getLatitude();
 
         Page<Post> posts = postRepository.findAllByLocationNearOrderByCreatedAtDesc(longitude,latitude, DISTANCE_IN_METERS, pageable);
-        return posts.map(postMapper::mapToPostResponseDto);
+        return postMapper.mapToPostResponseDtoPage(posts);
+    }
+
+    // 서브 게시글 조회 - 내 주변 (무한 스크롤용, 전체 개수 없이 다음 페이지 여부만)
+    public Slice<PostResponseDto> getAllAreaPostSlice(MapPostSearchRequestDto postSearchRequestDto, Pageable pageable) {
+        Slice<Post> posts = postRepository.findAllSliceByLocationNear(postSearchRequestDto.getLongitude(), postSearchRequestDto.getLatitude(), DISTANCE_IN_METERS, pageable);
+        return postMapper.mapToPostResponseDtoSlice(posts);
     }
 
     //서브 게시글 조회 - 카테고리 별 전체 조회 기본(최신순) -> queryDsl 적용✅
     public Page<PostResponseDto> getPostByCategory(Long category, Pageable pageable) {
         Page <Post> posts = postRepository.findSubPostsByCategoryWithOrder(category, pageable);
-        return posts.map(postMapper::mapToPostResponseDto);
+        return postMapper.mapToPostResponseDtoPage(posts);
 
     }
 
-    @Transactional
-    //상세페이지 게시글 조회
+    // 서브 게시글 조회 - 내 주변 (커서 기반, 최신순)
+    public CursorPageResponseDto<PostResponseDto> getAllAreaPostByCursor(MapPostSearchRequestDto postSearchRequestDto, String cursor, int size) {
+        CursorUtil.validateSize(size);
+        List<Post> posts = postRepository.findNearbyPostsByCursor(postSearchRequestDto.getLongitude(), postSearchRequestDto.getLatitude(), DISTANCE_IN_METERS, CursorUtil.decode(cursor), size);
+        return CursorPageResponseDto.of(posts, size, post -> CursorUtil.encode(post.getCreatedAt(), post.getId()), postMapper::mapToPostResponseDtos);
+    }
+
+    //서브 게시글 조회 - 카테고리 별 (커서 기반, 최신순)
+    public CursorPageResponseDto<PostResponseDto> getPostByCategoryCursor(Long category, String cursor, int size) {
+        CursorUtil.validateSize(size);
+        List<Post> posts = postRepository.findCategoryPostsByCursor(category, CursorUtil.decode(cursor), size);
+        return CursorPageResponseDto.of(posts, size, post -> CursorUtil.encode(post.getCreatedAt(), post.getId()), postMapper::mapToPostResponseDtos);
+    }
+
+    //서브 게시글 조회 - 카테고리 별 (무한 스크롤용, 전체 개수 없이 다음 페이지 여부만)
+    public Slice<PostResponseDto> getPostSliceByCategory(Long category, Pageable pageable) {
+        Slice<Post> posts = postRepository.findSubPostsSliceByCategoryWithOrder(category, pageable);
+        return postMapper.mapToPostResponseDtoSlice(posts);
+    }
+
+    @Transactional(readOnly = true)
+    //상세페이지 게시글 조회 -> 조회수는 락 없이 PostViewCountBuffer 에 누적 후 주기적으로 반영
     public PostResponseDto getDetailPost(Long postId, Optional<UserDetailsImpl> userDetails, HttpServletRequest req, HttpServletResponse res) {
-        Post post = postRepository.findByIdAndDeletedFalseForUpdate(postId).orElseThrow(() ->
+        Post post = postRepository.findByIdAndDeletedFalse(postId).orElseThrow(() ->
                 new NotFoundException(ErrorCode.POST_NOT_EXIST.getMessage()));
-        String value = String.valueOf(postId);
-
 //      로그인 유저는 USER ID, 비로그인 유저는 IP 주소
         String key = getUserIp(req);
         if (userDetails.isPresent()) {
             key = String.valueOf(userDetails.get().getUserId());
         }
 
-        if (!redisUtil.getPostViewList(key).contains(value)) {
-            redisUtil.setPostViewList(key, postId);
-            post.viewCountUpdate();
+        // 오늘 처음 조회한 경우에만 조회수 증가
+        if (redisUtil.addPostViewer(postId, key)) {
+            postViewCountBuffer.increase(postId);
         }
 
-        return postMapper.mapToPostResponseDto(post, userDetails);
+        // 주기적으로 반영되는 조회수 - 아직 반영되지 않은 증가분을 더해서 응답
+        return postMapper.mapToPostResponseDto(post, userDetails, postViewCountBuffer.getPending(postId));
     }
 
 
-    //지도 페이지 New Version
+    //지도 페이지 New Version -> geohash 타일 캐시에서 조회
     public List<PostResponseDto> getMapPost(MapPostSearchRequestDto postSearchRequestDto, int size) {
         Double longitude = postSearchRequestDto.getLongitude();
         Double latitude = postSearchRequestDto.getLatitude();
-        List<Post> posts = postRepository.findAllByLocationNear(longitude, latitude, DISTANCE_IN_METERS, size);
-        return posts.stream()
-                .map(postMapper::mapToPostResponseDto)
-                .collect(Collectors.toList());
+        return mapPostCache.findNear(longitude, latitude, DISTANCE_IN_METERS, size);
     }
 
     // 수정, 삭제 할 게시물이 존재하는지 확인하는 메서드
@@ -0,0 +1,96 @@
+package com.sparta.i_mu.domain.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수 증가분을 메모리에 모아두었다가 주기적으로 한 번에 반영
+ * 상세 조회마다 게시글 row 에 락을 잡지 않기 위해 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer {
+
+    private static final String UPDATE_VIEW_COUNT_SQL = "UPDATE post SET view_count = view_count + ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TopPostRanking topPostRanking;
+    private final ConcurrentHashMap<Long, Long> pendingViewCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 - DB row 락 없이 메모리에만 누적 (게시글 id 단위 원자적 합산)
+     * @param postId
+     */
+    public void increase(Long postId) {
+        pendingViewCounts.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     * @param postId
+     * @return 반영 대기중인 증가분
+     */
+    public long getPending(Long postId) {
+        return pendingViewCounts.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 누적된 조회수를 batch update 로 반영
+     * @return 이번에 반영한 게시글 id -> 증가분
+     */
+    @Scheduled(fixedDelay = 5000)
+    public synchronized Map<Long, Long> flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return deltas;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        deltas.forEach((postId, delta) -> batchArgs.add(new Object[]{delta, postId}));
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_VIEW_COUNT_SQL, batchArgs);
+            log.info("조회수 반영 완료 - 게시글 수 : {}", deltas.size());
+        } catch (Exception e) {
+            // 반영에 실패한 증가분은 다음 주기에 다시 반영
+            log.error("조회수 반영 중 오류 발생 : ", e);
+            deltas.forEach((postId, delta) -> pendingViewCounts.merge(postId, delta, Long::sum));
+            return Map.of();
+        }
+
+        try {
+            topPostRanking.updateViewCounts(deltas.keySet());
+        } catch (Exception e) {
+            // 랭킹은 주기적인 보정 작업에서 다시 맞춰진다.
+            log.error("조회수 랭킹 갱신 중 오류 발생 : ", e);
+        }
+        return deltas;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 키 단위로 꺼내면서 제거 - 꺼낸 이후의 증가분은 새 값으로 다시 쌓이므로 유실되지 않는다.
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long postId : pendingViewCounts.keySet()) {
+            Long delta = pendingViewCounts.remove(postId);
+            if (delta != null && delta > 0) {
+                deltas.put(postId, delta);
+            }
+        }
+        return deltas;
+    }
+}
@@ -0,0 +1,132 @@
+package com.sparta.i_mu.domain.post.service;
+
+import com.sparta.i_mu.domain.post.entity.Post;
+import com.sparta.i_mu.domain.post.event.PostChangedEvent;
+import com.sparta.i_mu.domain.post.repository.PostRepository;
+import com.sparta.i_mu.global.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import static com.sparta.i_mu.global.util.RedisUtil.TOP_POST_VIEW_KEY;
+import static com.sparta.i_mu.global.util.RedisUtil.TOP_POST_WISHLIST_KEY;
+
+/**
+ * 메인페이지 인기 게시글 랭킹 (좋아요 순, 조회수 순)
+ * 좋아요 변경 이벤트(커밋 이후) / 조회수 반영 시점에 Redis ZSET 점수를 갱신하고, 조회는 ZREVRANGE 로 처리한다.
+ * 점수는 항상 DB 의 현재 값으로 덮어쓰고, 주기적으로 DB 기준으로 전체를 다시 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TopPostRanking {
+
+    private static final int TOP_SIZE = 5;
+    private static final int CANDIDATE_SIZE = TOP_SIZE * 2; // 삭제된 게시글이 섞여 있을 경우를 위한 여유분
+    private static final int RANKING_SIZE = 1000; // ZSET 에 유지하는 게시글 수
+
+    private final PostRepository postRepository;
+    private final RedisUtil redisUtil;
+
+    // 랭킹이 비어있을 때 보정을 한 번만 실행하기 위한 플래그 - 정기 보정 시 해제
+    private final AtomicBoolean reconcileTriggered = new AtomicBoolean(false);
+
+    /**
+     * 좋아요 변경 후 좋아요 수 반영, 삭제된 게시글은 랭킹에서 제거 - 커밋 이후에 반영한다.
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        Long postId = event.getPostId();
+        switch (event.getChangeType()) {
+            case WISHLIST -> runSafely(() -> redisUtil.setRankingScores(TOP_POST_WISHLIST_KEY, Map.of(postId, event.getWishlistCount()), RANKING_SIZE));
+            case DELETED -> runSafely(() -> redisUtil.removeRanking(postId, TOP_POST_WISHLIST_KEY, TOP_POST_VIEW_KEY));
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 조회수 반영 후 해당 게시글들의 조회수를 DB 값으로 갱신
+     * @param postIds 이번에 조회수가 반영된 게시글
+     */
+    public void updateViewCounts(Collection<Long> postIds) {
+        Map<Long, Integer> viewCounts = postRepository.findViewCountsByIdIn(postIds);
+        Map<Long, Integer> scores = new HashMap<>();
+        postIds.forEach(postId -> scores.put(postId, viewCounts.getOrDefault(postId, 0)));
+        redisUtil.setRankingScores(TOP_POST_VIEW_KEY, scores, RANKING_SIZE);
+    }
+
+    public List<Post> getTopPostsByWishlist() {
+        return getTopPosts(TOP_POST_WISHLIST_KEY, Post::getWishlistCount, postRepository::findAllByOrderByWishlistCountDesc);
+    }
+
+    public List<Post> getTopPostsByViewCount() {
+        return getTopPosts(TOP_POST_VIEW_KEY, Post::getViewCount, postRepository::findAllByOrderByViewCountDesc);
+    }
+
+    /**
+     * 랭킹을 DB 기준으로 다시 맞춘다 - 누락된 갱신, 탈퇴 유저의 게시글 삭제 등으로 생긴 차이 보정
+     * 애플리케이션 시작 시에도 한 번 실행되어 랭킹을 채운다.
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void reconcile() {
+        replaceRankings();
+        reconcileTriggered.set(false);
+    }
+
+    private void replaceRankings() {
+        try {
+            redisUtil.replaceRanking(TOP_POST_WISHLIST_KEY, postRepository.findWishlistCountRanking(RANKING_SIZE));
+            redisUtil.replaceRanking(TOP_POST_VIEW_KEY, postRepository.findViewCountRanking(RANKING_SIZE));
+            log.info("인기 게시글 랭킹 보정 완료");
+        } catch (Exception e) {
+            log.error("인기 게시글 랭킹 보정 중 오류 발생 : ", e);
+        }
+    }
+
+    /**
+     * ZSET 상위 후보를 조회 후 삭제되지 않은 게시글만 점수순(동점은 최신순)으로 반환
+     * 랭킹이 비어있거나 Redis 조회에 실패하면 DB 에서 상위 TOP_SIZE 개만 직접 조회한다.
+     * 랭킹이 비어있으면 다음 정기 보정 전까지 한 번만 보정을 실행해 랭킹을 채운다.
+     */
+    private List<Post> getTopPosts(String rankingKey, ToIntFunction<Post> score, IntFunction<List<Post>> fallback) {
+        List<Long> postIds;
+        try {
+            postIds = redisUtil.getTopRanking(rankingKey, CANDIDATE_SIZE);
+        } catch (Exception e) {
+            log.error("인기 게시글 랭킹 조회 중 오류 발생 : ", e);
+            return fallback.apply(TOP_SIZE);
+        }
+        if (postIds.isEmpty()) {
+            if (reconcileTriggered.compareAndSet(false, true)) {
+                replaceRankings();
+            }
+            return fallback.apply(TOP_SIZE);
+        }
+
+        return postRepository.findAllById(postIds).stream()
+                .filter(post -> !post.getDeleted())
+                .sorted(Comparator.comparingInt(score).reversed()
+                        .thenComparing(Post::getCreatedAt, Comparator.reverseOrder()))
+                .limit(TOP_SIZE)
+                .collect(Collectors.toList());
+    }
+
+    // 랭킹 갱신 실패가 본 요청을 실패시키지 않도록 - 차이는 보정 작업에서 맞춰진다.
+    private void runSafely(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.error("인기 게시글 랭킹 갱신 중 오류 발생 : ", e);
+        }
+    }
+}
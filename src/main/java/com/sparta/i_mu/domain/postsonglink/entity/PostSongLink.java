@@ -12,8 +12,10 @@ import lombok.*;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostSongLink {
+    // IDENTITY 는 insert 배치가 불가능해서 시퀀스(MySQL 에서는 테이블)로 id 를 미리 할당받는다.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_song_link_seq")
+    @SequenceGenerator(name = "post_song_link_seq", sequenceName = "post_song_link_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -1,7 +1,6 @@
 package com.sparta.i_mu.domain.postsonglink.repository;
 
 import com.sparta.i_mu.domain.postsonglink.entity.PostSongLink;
-import com.sparta.i_mu.domain.song.entity.Song;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -10,6 +9,11 @@ import java.util.List;
 public interface PostSongLinkRepository extends JpaRepository <PostSongLink, Long> {
     List<PostSongLink> findAllByPostId(Long id);
 
-    @Query("SELECT ps.song FROM PostSongLink ps JOIN ps.song GROUP BY ps.song ORDER BY COUNT(ps) DESC")
-    List<Song> findTopSong();
+    /**
+     * 여러 게시글에 연결된 노래를 한 번의 쿼리로 조회 - 리스트 매핑 시 N+1 방지
+     * @param postIds
+     * @return postSongLink 리스트 (post, song fetch join)
+     */
+    @Query("SELECT ps FROM PostSongLink ps JOIN FETCH ps.post JOIN FETCH ps.song WHERE ps.post.id IN :postIds ORDER BY ps.id")
+    List<PostSongLink> findAllWithSongByPostIdIn(List<Long> postIds);
 }
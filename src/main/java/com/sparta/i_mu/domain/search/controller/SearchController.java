@@ -1,7 +1,10 @@
 package com.sparta.i_mu.domain.search.controller;
 
+import com.sparta.i_mu.domain.location.service.LocationService;
 import com.sparta.i_mu.domain.search.dto.SearchMainResponseDto;
 import com.sparta.i_mu.domain.search.dto.SearchResponseDto;
+import com.sparta.i_mu.domain.search.dto.SuggestionResponseDto;
+import com.sparta.i_mu.domain.search.service.SuggestionService;
 import com.sparta.i_mu.global.responseResource.ResponseResource;
 import com.sparta.i_mu.domain.search.service.SearchService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,6 +21,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/posts")
@@ -25,6 +30,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class SearchController {
 
     private final SearchService searchService;
+    private final SuggestionService suggestionService;
+    private final LocationService locationService;
     // 메인 페이지 - 검색
 
     @GetMapping("/search")
@@ -33,6 +40,23 @@ public class SearchController {
         return searchService.getSearchMain();
     }
 
+    @GetMapping("/search/suggest")
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 검색어를 인기순으로 조회")
+    public List<SuggestionResponseDto> getSuggestions(@RequestParam(value = "keyword") String keyword,
+                                                      @RequestParam(defaultValue = "10") int size) {
+        return suggestionService.suggest(keyword, size);
+    }
+
+    @GetMapping("/search/top-places")
+    @Operation(summary = "인기 장소 조회", description = "게시글이 많은 장소 top10, 좌표를 보내면 해당 지역 기준으로 조회")
+    public List<String> getTopPlaces(@RequestParam(required = false) Double longitude,
+                                     @RequestParam(required = false) Double latitude) {
+        if (longitude == null || latitude == null) {
+            return locationService.getTopLocations();
+        }
+        return locationService.getTopLocations(longitude, latitude);
+    }
+
     @GetMapping("/search/box")
     @Operation(summary = "메인 페이지 검색", description = "메인 페이지 검색")
     public ResponseEntity<ResponseResource<?>> getSearch(@RequestParam(value = "keyword") String keyword,
@@ -65,6 +89,7 @@ public class SearchController {
             case "wishlist" -> Sort.by(Sort.Direction.DESC, "wishlistCount");
             case "views" -> Sort.by(Sort.Direction.DESC, "viewCount");
             case "oldest" -> Sort.by(Sort.Direction.ASC, "createdAt");
+            case "relevance" -> Sort.unsorted(); // 검색어 관련도 순
             default -> Sort.by(Sort.Direction.DESC, "createdAt");
         };
     }
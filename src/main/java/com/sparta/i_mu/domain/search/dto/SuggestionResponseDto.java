@@ -0,0 +1,11 @@
+package com.sparta.i_mu.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SuggestionResponseDto {
+    private String text;
+    private SuggestionType type;
+}
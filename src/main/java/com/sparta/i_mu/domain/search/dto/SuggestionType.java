@@ -0,0 +1,12 @@
+package com.sparta.i_mu.domain.search.dto;
+
+/**
+ * 자동완성 검색어 출처
+ */
+public enum SuggestionType {
+    KEYWORD, // 인기 검색어
+    TITLE,   // 게시글 제목
+    NICKNAME,
+    SONG,    // 노래 제목
+    PLACE    // 장소 이름
+}
@@ -0,0 +1,91 @@
+package com.sparta.i_mu.domain.search.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 통합 검색의 각 검색을 전용 스레드 풀(search-*)에서 동시에 실행
+ * 검색마다 읽기 전용 트랜잭션 안에서 조회와 dto 매핑(지연 로딩 포함)을 함께 처리하고,
+ * 제한 시간을 넘기거나 실패한 검색은 빈 결과로 대신해서 나머지 결과만으로 응답할 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class ParallelSearchExecutor {
+
+    private final ThreadPoolTaskExecutor searchExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final long timeoutMillis;
+
+    public ParallelSearchExecutor(PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${search.executor.core-size:8}") int coreSize,
+                                  @Value("${search.executor.max-size:16}") int maxSize,
+                                  @Value("${search.executor.queue-capacity:100}") int queueCapacity,
+                                  @Value("${search.leg.timeout-millis:2000}") long timeoutMillis) {
+        // 큐까지 가득 차면 거절하고, 거절된 검색은 빈 결과로 응답한다.
+        // 애플리케이션 기본 TaskExecutor 를 대체하지 않도록 빈으로 등록하지 않는다.
+        this.searchExecutor = new ThreadPoolTaskExecutor();
+        this.searchExecutor.setCorePoolSize(coreSize);
+        this.searchExecutor.setMaxPoolSize(maxSize);
+        this.searchExecutor.setQueueCapacity(queueCapacity);
+        this.searchExecutor.setThreadNamePrefix("search-");
+        this.searchExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        this.searchExecutor.initialize();
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 제한 시간이 지난 쿼리도 DB 에서 끊기도록 트랜잭션 timeout(초) 적용
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMillis + 999)));
+    }
+
+    /**
+     * @param leg  검색 이름 (title, nickname, songName, location)
+     * @param task 조회 + 매핑
+     * @return 결과, 제한 시간 초과 / 실패 시 빈 리스트
+     */
+    public <T> CompletableFuture<List<T>> submit(String leg, Supplier<List<T>> task) {
+        Timer timer = Timer.builder("search.leg.latency").tag("leg", leg).register(meterRegistry);
+        CompletableFuture<List<T>> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> timer.record(() -> readOnlyTransaction.execute(status -> task.get())), searchExecutor);
+        } catch (RuntimeException e) {
+            // 스레드 풀 포화로 거절된 경우
+            log.warn("검색 실행 거절 - leg : {}", leg, e);
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        long startedAt = System.nanoTime();
+        return future
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((result, e) -> {
+                    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                    if (e != null) {
+                        log.warn("검색 실패 또는 시간 초과 - leg : {}, {}ms", leg, elapsedMillis, e);
+                        meterRegistry.counter("search.leg.failures", "leg", leg).increment();
+                        return List.of();
+                    }
+                    log.info("검색 완료 - leg : {}, 결과 개수 : {}, {}ms", leg, result.size(), elapsedMillis);
+                    return result;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        searchExecutor.shutdown();
+    }
+}
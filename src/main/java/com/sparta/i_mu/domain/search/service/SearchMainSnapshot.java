@@ -0,0 +1,129 @@
+package com.sparta.i_mu.domain.search.service;
+
+import com.sparta.i_mu.domain.location.service.LocationService;
+import com.sparta.i_mu.domain.post.event.PostChangedEvent;
+import com.sparta.i_mu.domain.post.service.PostService;
+import com.sparta.i_mu.domain.search.dto.SearchMainResponseDto;
+import com.sparta.i_mu.domain.song.service.SongService;
+import com.sparta.i_mu.global.util.RedisUtil;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 검색 메인 페이지 응답 스냅샷
+ * 인기 장소, 인기 검색어, 카테고리별 인기 노래, 인기 게시글을 백그라운드에서 미리 만들어 두고 통째로 교체한다.
+ * 조회는 현재 스냅샷을 그대로 반환하므로 DB / Redis 를 조회하지 않는다.
+ * 게시글 변경 이벤트가 오면 다음 갱신 주기에 다시 만들고, 이벤트가 없어도 MAX_AGE 가 지나면 다시 만든다. (인기 검색어 반영)
+ */
+@Slf4j
+@Component
+public class SearchMainSnapshot {
+
+    private static final long MAX_AGE_MILLIS = 60 * 1000L;
+
+    private final LocationService locationService;
+    private final PostService postService;
+    private final SongService songService;
+    private final RedisUtil redisUtil;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    // 마지막 스냅샷 이후 게시글 변경이 있었는지
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+    public SearchMainSnapshot(LocationService locationService, PostService postService, SongService songService,
+                              RedisUtil redisUtil, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.locationService = locationService;
+        this.postService = postService;
+        this.songService = songService;
+        this.redisUtil = redisUtil;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        Gauge.builder("search.main.snapshot.age.seconds", this, SearchMainSnapshot::ageSeconds).register(meterRegistry);
+        Gauge.builder("search.main.snapshot.version", this, SearchMainSnapshot::version).register(meterRegistry);
+    }
+
+    /**
+     * @return 현재 스냅샷, 아직 만들어지지 않았다면 바로 만들어서 반환
+     */
+    public SearchMainResponseDto get() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            current = refresh();
+        }
+        return current.response;
+    }
+
+    /**
+     * 게시글 변경 - 커밋 이후 표시만 하고, 실제 갱신은 스케줄러가 모아서 한 번에 한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelay = 5 * 1000)
+    public void refreshIfNecessary() {
+        Snapshot current = snapshot.get();
+        if (current != null && !dirty.get() && System.currentTimeMillis() - current.builtAt < MAX_AGE_MILLIS) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 이전 스냅샷을 계속 사용하고 다음 주기에 다시 시도
+            log.error("검색 메인 스냅샷 갱신 중 오류 발생 : ", e);
+        }
+    }
+
+    private synchronized Snapshot refresh() {
+        // 만드는 도중 들어온 변경은 다음 주기에 반영되도록 먼저 표시를 지운다.
+        dirty.set(false);
+        try {
+            SearchMainResponseDto response = readOnlyTransaction.execute(status -> SearchMainResponseDto.builder()
+                    .topLocations(locationService.getTopLocations())
+                    .topSearchKeywords(redisUtil.getSearchKeyword())
+                    .topSongs(songService.getMostByCategoryPostSong())
+                    .topPosts(postService.getTopPostsByWishlist())
+                    .build());
+            Snapshot previous = snapshot.get();
+            Snapshot rebuilt = new Snapshot(previous == null ? 1 : previous.version + 1, System.currentTimeMillis(), response);
+            snapshot.set(rebuilt);
+            return rebuilt;
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            throw e;
+        }
+    }
+
+    private double ageSeconds() {
+        Snapshot current = snapshot.get();
+        return current == null ? Double.NaN : (System.currentTimeMillis() - current.builtAt) / 1000.0;
+    }
+
+    private double version() {
+        Snapshot current = snapshot.get();
+        return current == null ? 0 : current.version;
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final long builtAt;
+        private final SearchMainResponseDto response;
+
+        private Snapshot(long version, long builtAt, SearchMainResponseDto response) {
+            this.version = version;
+            this.builtAt = builtAt;
+            this.response = response;
+        }
+    }
+}
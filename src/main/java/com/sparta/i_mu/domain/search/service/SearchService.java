@@ -1,23 +1,19 @@
 package com.sparta.i_mu.domain.search.service;
 
 import com.sparta.i_mu.domain.post.dto.PostResponseDto;
-import com.sparta.i_mu.domain.post.service.PostService;
 import com.sparta.i_mu.domain.search.dto.SearchMainResponseDto;
 import com.sparta.i_mu.domain.search.dto.SearchResponseDto;
 import com.sparta.i_mu.domain.song.dto.SongResponseDto;
-import com.sparta.i_mu.domain.song.service.SongService;
 import com.sparta.i_mu.domain.user.dto.UserInfoResponseDto;
 import com.sparta.i_mu.domain.post.entity.Post;
 import com.sparta.i_mu.domain.song.entity.Song;
 import com.sparta.i_mu.domain.user.entity.User;
 import com.sparta.i_mu.global.exception.NoContentException;
-import com.sparta.i_mu.global.util.RedisUtil;
 import com.sparta.i_mu.domain.post.mapper.PostMapper;
 import com.sparta.i_mu.domain.song.mapper.SongMapper;
 import com.sparta.i_mu.domain.post.repository.PostRepository;
-import com.sparta.i_mu.domain.song.repository.SongRepository;
+import com.sparta.i_mu.domain.song.repository.querydsl.CustomSongRepository;
 import com.sparta.i_mu.domain.user.repository.UserRepository;
-import com.sparta.i_mu.domain.location.service.LocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -27,6 +23,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -34,16 +31,14 @@ import java.util.List;
 public class SearchService {
 
     private final PostRepository postRepository;
-    private final SongRepository songRepository;
+    private final CustomSongRepository customSongRepository;
     private final UserRepository userRepository;
 
-    private final LocationService locationService;
-    private final PostService postService;
-    private final SongService songService;
-
-    private final RedisUtil redisUtil;
     private final PostMapper postMapper;
     private final SongMapper songMapper;
+    private final ParallelSearchExecutor parallelSearchExecutor;
+    private final TrendingKeywordService trendingKeywordService;
+    private final SearchMainSnapshot searchMainSnapshot;
 
 
     // 메인 페이지 - 검색
@@ -57,17 +52,17 @@ public class SearchService {
      * @return
      */
     public Page<?> getSearch(String keyword, String type, Pageable pageable) {
-        redisUtil.storeSearchKeyword(keyword);
+        trendingKeywordService.record(keyword);
         switch (type) {
             case "title" -> {
-                Page<Post> posts = postRepository.findAllByPostTitleContainingAndDeletedFalse(keyword, pageable);
+                Page<Post> posts = postRepository.searchByPostTitle(keyword, pageable);
                 if (posts.isEmpty()) {
                     throw new NoContentException("No posts found with keyword: " + keyword);
                 }
-                return posts.map(postMapper::mapToPostResponseDto);
+                return postMapper.mapToPostResponseDtoPage(posts);
             }
             case "nickname" -> {
-                Page<User> users = userRepository.findAllByNicknameContaining(keyword, pageable);
+                Page<User> users = userRepository.searchByNickname(keyword, pageable);
                 if (users.isEmpty()) {
                     throw new NoContentException("No users found with keyword: " + keyword);
                 }
@@ -78,18 +73,18 @@ public class SearchService {
                         .build());
             }
             case "songName" -> {
-                Page<Song> songs = songRepository.findAllBySongTitleContaining(keyword, pageable);
+                Page<Song> songs = customSongRepository.searchBySongTitle(keyword, pageable);
                 if (songs.isEmpty()) {
                     throw new NoContentException("No songs found with keyword: " + keyword);
                 }
                 return songs.map(songMapper::entityToResponseDto);
             }
             case "location" -> {
-                Page<Post> postsByLocation = postRepository.findAllByLocationAddressContainingAndDeletedFalse(keyword, pageable);
+                Page<Post> postsByLocation = postRepository.searchByLocationAddress(keyword, pageable);
                 if (postsByLocation.isEmpty()) {
                     throw new NoContentException("No location found with keyword: " + keyword);
                 }
-                return postsByLocation.map(postMapper::mapToPostResponseDto);
+                return postMapper.mapToPostResponseDtoPage(postsByLocation);
             }
             default -> throw new IllegalArgumentException("검색 타입이 잘못되었습니다. type: " + type);
         }
@@ -97,67 +92,49 @@ public class SearchService {
 
     /**
      * 전체 검색
+     * 제목/닉네임/노래/주소 검색을 동시에 실행하고, 제한 시간 안에 끝나지 않은 검색은 빈 결과로 응답한다.
      *
      * @param keyword
      * @return
      */
     public SearchResponseDto getSearchAll(String keyword, Pageable pageable) {
-        redisUtil.storeSearchKeyword(keyword);
-        // 노래, 유저는 정렬하지 않음.
+        trendingKeywordService.record(keyword);
+        // 노래, 유저는 관련도 순으로 정렬
         Pageable unsortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.unsorted());
-        //Post 결과
-        List<Post> postResults = postRepository.findAllByPostTitleContainingAndDeletedFalse(keyword, pageable).getContent();
-        List<PostResponseDto> postDtos = postResults.stream()
-                .map(postMapper::mapToPostResponseDto)
-                .toList();
 
-        log.info("posts title 조회 : {}", postResults.stream().findFirst());
-        log.info("posts 결과 개수 조회 : {} ", postDtos.size());
+        //Post 결과
+        CompletableFuture<List<PostResponseDto>> postDtos = parallelSearchExecutor.submit("title", () ->
+                postMapper.mapToPostResponseDtos(postRepository.searchByPostTitle(keyword, pageable).getContent()));
         //User 결과
-        List<User> userResults = userRepository.findAllByNicknameContaining(keyword, unsortedPageable).getContent();
-        List<UserInfoResponseDto> userDtos = userResults.stream()
-                .map(user -> UserInfoResponseDto.builder()
-                        .userId(user.getId())
-                        .nickname(user.getNickname())
-                        .introduce(user.getIntroduce())
-                        .build())
-                .sorted()
-                .toList();
-        log.info("user nickname 조회 : {}", userResults.stream().findFirst());
-        log.info("user 결과 개수 조회 : {} ", userDtos.size());
+        CompletableFuture<List<UserInfoResponseDto>> userDtos = parallelSearchExecutor.submit("nickname", () ->
+                userRepository.searchByNickname(keyword, unsortedPageable).getContent().stream()
+                        .map(user -> UserInfoResponseDto.builder()
+                                .userId(user.getId())
+                                .nickname(user.getNickname())
+                                .introduce(user.getIntroduce())
+                                .build())
+                        .toList());
         //Song 결과
-        List<Song> songResults = songRepository.findAllBySongTitleContaining(keyword, unsortedPageable).getContent();
-        List<SongResponseDto> songDtos = songResults.stream()
-                .map(songMapper::entityToResponseDto)
-                .toList();
-
-        log.info("song title 조회 : {}", songResults.stream().findFirst());
-        log.info("song 결과 개수 조회 : {} ", songDtos.size());
+        CompletableFuture<List<SongResponseDto>> songDtos = parallelSearchExecutor.submit("songName", () ->
+                customSongRepository.searchBySongTitle(keyword, unsortedPageable).getContent().stream()
+                        .map(songMapper::entityToResponseDto)
+                        .toList());
+        //Location 결과
+        CompletableFuture<List<PostResponseDto>> locationDtos = parallelSearchExecutor.submit("location", () ->
+                postMapper.mapToPostResponseDtos(postRepository.searchByLocationAddress(keyword, pageable).getContent()));
 
-        List<Post> locationResults = postRepository.findAllByLocationAddressContainingAndDeletedFalse(keyword, pageable).getContent();
-        List<PostResponseDto> loationDtos = locationResults.stream()
-                .map(postMapper::mapToPostResponseDto)
-                .toList();
-
-        log.info("Location post 조회 : {}", locationResults.stream().findFirst());
-        log.info("Location post 결과 개수 조회 : {} ", loationDtos.size());
         return SearchResponseDto.builder()
-                .posts(postDtos)
-                .users(userDtos)
-                .songs(songDtos)
-                .locations(loationDtos)
+                .posts(postDtos.join())
+                .users(userDtos.join())
+                .songs(songDtos.join())
+                .locations(locationDtos.join())
                 .build();
     }
 
 
+    // 백그라운드에서 미리 만들어 둔 스냅샷 반환
     public SearchMainResponseDto getSearchMain() {
-        SearchMainResponseDto searchMainResponseDto = SearchMainResponseDto.builder()
-                .topLocations(locationService.getTopLocations())
-                .topSearchKeywords(redisUtil.getSearchKeyword())
-                .topSongs(songService.getMostByCategoryPostSong())
-                .topPosts(postService.getTopPostsByWishlist()).build();
-
-        return searchMainResponseDto;
+        return searchMainSnapshot.get();
     }
 }
 
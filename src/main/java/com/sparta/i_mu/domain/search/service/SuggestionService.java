@@ -0,0 +1,189 @@
+package com.sparta.i_mu.domain.search.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.i_mu.domain.post.event.PostChangedEvent;
+import com.sparta.i_mu.domain.search.dto.SuggestionResponseDto;
+import com.sparta.i_mu.domain.search.dto.SuggestionType;
+import com.sparta.i_mu.global.util.KeywordUtil;
+import com.sparta.i_mu.global.util.RedisUtil;
+import com.sparta.i_mu.global.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색창 자동완성
+ * 게시글 제목, 닉네임, 노래 제목, 장소 이름, 인기 검색어로 메모리 trie 를 만들어 두고 조회 시 DB 를 사용하지 않는다.
+ * 게시글 작성/수정/삭제 이벤트(커밋 이후)에 바뀐 검색어만 바로 반영하고, 점수 보정을 위해 주기적으로 DB 기준으로 새로 만든다.
+ * 사용자가 입력한 검색어는 바로 추가하지 않고, 재생성 시 인기 검색어 중 일정 점수 이상인 것만 추가한다.
+ * 새로 만든 trie 는 점수 상위 SNAPSHOT_SIZE 개만 Redis 에 스냅샷으로 저장해서 재시작 시 DB 조회 없이 바로 복구한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SuggestionService {
+
+    private static final double KEYWORD_WEIGHT = 2.0; // 실제로 검색된 검색어를 우선
+    private static final int KEYWORD_SIZE = 1000;
+    private static final double KEYWORD_MIN_SCORE = 3.0; // 여러 번 검색된 검색어만 다른 사용자에게 노출
+
+    private static final String POST_TITLE_SQL = "SELECT post_title, wishlist_count FROM post WHERE deleted = false";
+    private static final String PLACE_NAME_SQL = "SELECT l.place_name, COUNT(*) FROM post p JOIN location l ON l.id = p.location_id " +
+            "WHERE p.deleted = false AND l.place_name IS NOT NULL GROUP BY l.place_name";
+    private static final String NICKNAME_SQL = "SELECT nickname FROM `user` WHERE deleted = false AND nickname IS NOT NULL";
+    private static final String SONG_TITLE_SQL = "SELECT s.song_title, COUNT(*) FROM post_song_link ps JOIN post p ON p.post_id = ps.post_id " +
+            "JOIN song s ON s.id = ps.song_id WHERE p.deleted = false GROUP BY s.song_title";
+    private static final int SNAPSHOT_SIZE = 50_000; // 스냅샷에는 점수 상위 검색어만 저장 - 나머지는 다음 재생성 때 채워진다.
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+
+    private volatile SuggestionTrie trie = new SuggestionTrie();
+
+    /**
+     * prefix 로 시작하는 검색어 중 점수 상위 size 개
+     * @param keyword 입력 중인 검색어
+     * @param size
+     * @return 자동완성 검색어
+     */
+    public List<SuggestionResponseDto> suggest(String keyword, int size) {
+        return trie.suggest(keyword, Math.max(1, Math.min(size, SuggestionTrie.TOP_K)));
+    }
+
+    /**
+     * 게시글 작성/수정/삭제 - 커밋 이후 수정 전/후의 차이만 반영한다.
+     * 바뀌지 않은 제목, 장소 이름, 노래 제목은 점수를 더하지 않는다.
+     * @param event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        PostChangedEvent.Snapshot before = event.getBefore();
+        PostChangedEvent.Snapshot after = event.getAfter();
+        if (before == null && after == null) {
+            return;
+        }
+        SuggestionTrie current = trie;
+        applyDiff(current, SuggestionType.TITLE,
+                Collections.singletonList(before == null ? null : before.getPostTitle()),
+                Collections.singletonList(after == null ? null : after.getPostTitle()));
+        applyDiff(current, SuggestionType.PLACE,
+                Collections.singletonList(before == null ? null : before.getPlaceName()),
+                Collections.singletonList(after == null ? null : after.getPlaceName()));
+        applyDiff(current, SuggestionType.SONG,
+                before == null ? List.of() : before.getSongTitles(),
+                after == null ? List.of() : after.getSongTitles());
+    }
+
+    public void addNickname(String nickname) {
+        TransactionUtil.afterCommit(() -> trie.add(nickname, SuggestionType.NICKNAME, 1));
+    }
+
+    /**
+     * 시작 시 스냅샷으로 복구, 스냅샷이 없으면 DB 에서 새로 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!restoreSnapshot()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB + 인기 검색어 기준으로 trie 를 새로 만들어 교체
+     */
+    @Scheduled(initialDelay = 30 * 60 * 1000, fixedDelay = 30 * 60 * 1000)
+    public void rebuild() {
+        try {
+            SuggestionTrie rebuilt = new SuggestionTrie();
+            jdbcTemplate.query(POST_TITLE_SQL, rs -> {
+                rebuilt.add(rs.getString(1), SuggestionType.TITLE, 1 + rs.getInt(2));
+            });
+            jdbcTemplate.query(PLACE_NAME_SQL, rs -> {
+                rebuilt.add(rs.getString(1), SuggestionType.PLACE, rs.getInt(2));
+            });
+            jdbcTemplate.query(NICKNAME_SQL, rs -> {
+                rebuilt.add(rs.getString(1), SuggestionType.NICKNAME, 1);
+            });
+            jdbcTemplate.query(SONG_TITLE_SQL, rs -> {
+                rebuilt.add(rs.getString(1), SuggestionType.SONG, rs.getInt(2));
+            });
+            Set<ZSetOperations.TypedTuple<String>> keywords = redisUtil.getSearchKeywordWithScores(KEYWORD_SIZE);
+            if (keywords != null) {
+                keywords.stream()
+                        .filter(keyword -> keyword.getScore() != null && keyword.getScore() >= KEYWORD_MIN_SCORE)
+                        .forEach(keyword -> rebuilt.add(keyword.getValue(), SuggestionType.KEYWORD, KEYWORD_WEIGHT * keyword.getScore()));
+            }
+
+            trie = rebuilt;
+            log.info("자동완성 검색어 갱신 완료 - 검색어 수 : {}", rebuilt.size());
+            storeSnapshot(rebuilt);
+        } catch (Exception e) {
+            log.error("자동완성 검색어 갱신 중 오류 발생 : ", e);
+        }
+    }
+
+    private boolean restoreSnapshot() {
+        try {
+            String snapshot = redisUtil.getSuggestionSnapshot();
+            if (snapshot == null) {
+                return false;
+            }
+            List<SuggestionTrie.Entry> entries = objectMapper.readValue(snapshot, new TypeReference<>() {});
+            SuggestionTrie restored = new SuggestionTrie();
+            entries.forEach(entry -> restored.add(entry.getText(), entry.getType(), entry.getScore()));
+            trie = restored;
+            log.info("자동완성 스냅샷 복구 완료 - 검색어 수 : {}", restored.size());
+            return true;
+        } catch (Exception e) {
+            log.error("자동완성 스냅샷 복구 중 오류 발생 : ", e);
+            return false;
+        }
+    }
+
+    private void storeSnapshot(SuggestionTrie snapshot) {
+        try {
+            redisUtil.storeSuggestionSnapshot(objectMapper.writeValueAsString(snapshot.entries(SNAPSHOT_SIZE)));
+        } catch (Exception e) {
+            log.error("자동완성 스냅샷 저장 중 오류 발생 : ", e);
+        }
+    }
+
+    // 수정 전에만 있던 검색어는 -1, 수정 후에만 있는 검색어는 +1
+    private void applyDiff(SuggestionTrie current, SuggestionType type, List<String> before, List<String> after) {
+        Map<String, String> removed = byKey(before);
+        Map<String, String> added = byKey(after);
+        Set<String> unchanged = new HashSet<>(removed.keySet());
+        unchanged.retainAll(added.keySet());
+        removed.keySet().removeAll(unchanged);
+        added.keySet().removeAll(unchanged);
+        removed.values().forEach(text -> current.add(text, type, -1));
+        added.values().forEach(text -> current.add(text, type, 1));
+    }
+
+    // 정규화한 검색어 -> 원래 검색어
+    private Map<String, String> byKey(List<String> texts) {
+        Map<String, String> byKey = new HashMap<>();
+        texts.forEach(text -> {
+            String key = KeywordUtil.normalize(text);
+            if (!key.isEmpty()) {
+                byKey.putIfAbsent(key, text);
+            }
+        });
+        return byKey;
+    }
+}
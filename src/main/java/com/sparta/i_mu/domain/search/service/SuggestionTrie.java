@@ -0,0 +1,185 @@
+package com.sparta.i_mu.domain.search.service;
+
+import com.sparta.i_mu.domain.search.dto.SuggestionResponseDto;
+import com.sparta.i_mu.domain.search.dto.SuggestionType;
+import com.sparta.i_mu.global.util.KeywordUtil;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성용 prefix trie
+ * 각 노드가 해당 prefix 로 시작하는 검색어 중 점수 상위 TOP_K 개를 미리 들고 있어서,
+ * 조회는 prefix 길이만큼 노드를 따라 내려간 뒤 목록을 그대로 반환한다. (검색어 수와 무관)
+ * 조회는 read lock, 추가/점수 갱신은 write lock 으로 처리한다.
+ */
+class SuggestionTrie {
+
+    static final int TOP_K = 10;
+    private static final int MAX_INDEXED_PREFIX = 20; // 이보다 긴 prefix 는 마지막 노드의 목록을 걸러서 응답
+
+    private final Node root = new Node();
+    private final Map<String, Term> terms = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 검색어 추가 - 이미 있는 검색어는 점수를 더한다. 점수가 0 이하가 되면 검색어를 제거한다.
+     * @param text  화면에 보여줄 검색어
+     * @param type  검색어 출처
+     * @param score 더할 점수 (음수면 차감)
+     */
+    void add(String text, SuggestionType type, double score) {
+        String key = KeywordUtil.normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Term term = terms.get(key);
+            if (term == null) {
+                if (score <= 0) {
+                    return;
+                }
+                term = new Term(key, text.strip(), type);
+                terms.put(key, term);
+            }
+            term.score += score;
+            if (term.score <= 0) {
+                terms.remove(key);
+                remove(term);
+                return;
+            }
+            Node node = root;
+            node.offer(term);
+            for (int i = 0; i < Math.min(key.length(), MAX_INDEXED_PREFIX); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.offer(term);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 검색어 중 점수 상위 size 개
+     * @param prefix
+     * @param size 최대 TOP_K
+     * @return 점수 내림차순 검색어
+     */
+    List<SuggestionResponseDto> suggest(String prefix, int size) {
+        String key = KeywordUtil.normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < Math.min(key.length(), MAX_INDEXED_PREFIX); i++) {
+                node = node.children.get(key.charAt(i));
+                if (node == null) {
+                    return List.of();
+                }
+            }
+            List<SuggestionResponseDto> suggestions = new ArrayList<>();
+            for (Term term : node.top) {
+                if (suggestions.size() >= size) {
+                    break;
+                }
+                if (term.key.startsWith(key)) {
+                    suggestions.add(new SuggestionResponseDto(term.text, term.type));
+                }
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷용 검색어 - 점수 상위 limit 개의 text, type, score
+     */
+    List<Entry> entries(int limit) {
+        lock.readLock().lock();
+        try {
+            return terms.values().stream()
+                    .sorted(Comparator.comparingDouble((Term term) -> term.score).reversed())
+                    .limit(limit)
+                    .map(term -> new Entry(term.text, term.type, term.score))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어가 올라가 있는 노드의 상위 목록에서 제거 - 빠진 자리는 다음 재생성 때 채워진다.
+    private void remove(Term term) {
+        Node node = root;
+        node.top.remove(term);
+        for (int i = 0; i < Math.min(term.key.length(), MAX_INDEXED_PREFIX); i++) {
+            node = node.children.get(term.key.charAt(i));
+            if (node == null) {
+                return;
+            }
+            node.top.remove(term);
+        }
+    }
+
+    /**
+     * 스냅샷(Redis) 저장용 검색어
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry {
+        private String text;
+        private SuggestionType type;
+        private double score;
+    }
+
+    private static class Term {
+        private final String key;
+        private final String text;
+        private final SuggestionType type;
+        private double score;
+
+        private Term(String key, String text, SuggestionType type) {
+            this.key = key;
+            this.text = text;
+            this.type = type;
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        // 점수 내림차순 상위 TOP_K 검색어
+        private final List<Term> top = new ArrayList<>(TOP_K + 1);
+
+        // 점수가 바뀐(또는 새로운) 검색어를 목록에 반영
+        private void offer(Term term) {
+            top.remove(term);
+            if (top.size() >= TOP_K && top.get(top.size() - 1).score >= term.score) {
+                return;
+            }
+            int index = 0;
+            while (index < top.size() && top.get(index).score >= term.score) {
+                index++;
+            }
+            top.add(index, term);
+            if (top.size() > TOP_K) {
+                top.remove(top.size() - 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.sparta.i_mu.domain.search.service;
+
+import com.sparta.i_mu.global.util.KeywordUtil;
+import com.sparta.i_mu.global.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 검색어 (시간 단위 sliding window)
+ * 검색 시 현재 시간 버킷 ZSET 에만 ZINCRBY 하고, 주기적으로 최근 windowHours 개 버킷을
+ * 오래된 버킷일수록 작은 가중치(decay^경과시간)로 ZUNIONSTORE 해서 인기 검색어를 만든다.
+ * 하루 단위로 한 번에 초기화되지 않고, 오래된 검색어는 점점 밀려난다.
+ * 버킷은 window 가 지나면 만료되고, 합산 시 버킷별 상위 bucketSize 개만 남겨 메모리를 제한한다.
+ */
+@Slf4j
+@Service
+public class TrendingKeywordService {
+
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final int TRENDING_SIZE = 1000;
+
+    private final RedisUtil redisUtil;
+    private final int windowHours;
+    private final double decay;
+    private final int bucketSize;
+
+    public TrendingKeywordService(RedisUtil redisUtil,
+                                  @Value("${search.trending.window-hours:24}") int windowHours,
+                                  @Value("${search.trending.decay:0.85}") double decay,
+                                  @Value("${search.trending.bucket-size:5000}") int bucketSize) {
+        this.redisUtil = redisUtil;
+        this.windowHours = Math.max(1, windowHours);
+        this.decay = decay;
+        this.bucketSize = bucketSize;
+    }
+
+    /**
+     * 검색어 기록 - 검색 요청마다 호출
+     * @param keyword
+     */
+    public void record(String keyword) {
+        String normalized = KeywordUtil.normalize(keyword);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        // 버킷은 window 동안 합산에 쓰이고 한 시간 여유를 두고 만료
+        redisUtil.incrementKeywordBucket(bucketOf(LocalDateTime.now()), normalized, TimeUnit.HOURS.toSeconds(windowHours + 1));
+    }
+
+    /**
+     * 최근 windowHours 개 버킷을 가중치 합산해서 인기 검색어 갱신
+     */
+    @Scheduled(fixedDelayString = "${search.trending.merge-interval-millis:60000}")
+    public void merge() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<String> buckets = new ArrayList<>(windowHours);
+            List<Double> weights = new ArrayList<>(windowHours);
+            for (int age = 0; age < windowHours; age++) {
+                buckets.add(bucketOf(now.minusHours(age)));
+                weights.add(Math.pow(decay, age));
+            }
+            // 지난 버킷은 더 이상 커지지 않으므로 현재와 직전 버킷만 정리
+            redisUtil.trimKeywordBucket(buckets.get(0), bucketSize);
+            if (buckets.size() > 1) {
+                redisUtil.trimKeywordBucket(buckets.get(1), bucketSize);
+            }
+            redisUtil.mergeKeywordBuckets(buckets, weights, TRENDING_SIZE);
+        } catch (Exception e) {
+            log.error("인기 검색어 갱신 중 오류 발생 : ", e);
+        }
+    }
+
+    private String bucketOf(LocalDateTime time) {
+        return time.format(BUCKET_FORMAT);
+    }
+}
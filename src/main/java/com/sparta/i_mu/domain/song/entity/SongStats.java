@@ -0,0 +1,49 @@
+package com.sparta.i_mu.domain.song.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+import static lombok.AccessLevel.PROTECTED;
+
+/**
+ * 노래별 게시글 수 (삭제된 게시글 제외)
+ * category_id = ALL_CATEGORIES(0) 행은 전체 게시글 수, 나머지는 카테고리별 게시글 수
+ * 게시글 작성/수정/삭제 트랜잭션 안에서 함께 갱신한다. - SongStatsService
+ */
+@Entity
+@Getter
+@IdClass(SongStats.SongStatsId.class)
+@Table(name = "song_stats", indexes = {
+        // 카테고리별 인기 노래 top-N 을 인덱스 순서대로 읽기 위한 인덱스
+        @Index(name = "idx_song_stats_category_post_count", columnList = "category_id, post_count, song_id")
+})
+@NoArgsConstructor(access = PROTECTED)
+public class SongStats {
+
+    public static final long ALL_CATEGORIES = 0L;
+
+    @Id
+    @Column(name = "song_id")
+    private Long songId;
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "post_count", nullable = false)
+    private Long postCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SongStatsId implements Serializable {
+        private Long songId;
+        private Long categoryId;
+    }
+}
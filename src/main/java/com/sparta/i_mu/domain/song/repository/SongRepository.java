@@ -1,11 +1,12 @@
 package com.sparta.i_mu.domain.song.repository;
 
 import com.sparta.i_mu.domain.song.entity.Song;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,14 +14,14 @@ public interface SongRepository extends JpaRepository<Song, Long> {
 
     Optional<Song> findBySongNum(String songNum);
 
-    @Query("SELECT link.song FROM PostSongLink link JOIN link.post p WHERE p.category.id = :categoryId GROUP BY link.song ORDER BY COUNT(link.song) DESC")
-    List<Song> findByCategoryIdOrderByPostCountDesc(Long categoryId);
+    List<Song> findAllBySongNumIn(Collection<String> songNums);
 
     /**
-     * 해당 키워드를 포함하는 노래리스트를 조회
-     * @param keyword
-     * @param pageable
-     * @return keyword값이 포함되어있는 노래 리스트 pageable
+     * 공유 잠금으로 조회 - 다른 트랜잭션이 방금 커밋한 노래도 보이도록 (REPEATABLE READ 스냅샷 대신 최신 값을 읽음)
+     * @param songNums
+     * @return 노래 리스트
      */
-    Page<Song> findAllBySongTitleContaining(String keyword, Pageable pageable);
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT s FROM Song s WHERE s.songNum IN :songNums")
+    List<Song> findAllBySongNumInForShare(Collection<String> songNums);
 }
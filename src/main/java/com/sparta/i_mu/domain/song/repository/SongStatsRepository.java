@@ -0,0 +1,23 @@
+package com.sparta.i_mu.domain.song.repository;
+
+import com.sparta.i_mu.domain.song.entity.Song;
+import com.sparta.i_mu.domain.song.entity.SongStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface SongStatsRepository extends JpaRepository<SongStats, SongStats.SongStatsId> {
+
+    /**
+     * 게시글 수가 많은 노래 top-N - (category_id, post_count, song_id) 인덱스를 역순으로 읽는다.
+     * @param categoryId 카테고리, 전체는 SongStats.ALL_CATEGORIES
+     * @param pageable   조회할 개수
+     * @return 노래 리스트 (게시글 수 내림차순)
+     */
+    @Query("SELECT s FROM SongStats st JOIN Song s ON s.id = st.songId " +
+            "WHERE st.categoryId = :categoryId AND st.postCount > 0 " +
+            "ORDER BY st.postCount DESC, st.songId DESC")
+    List<Song> findTopSongs(Long categoryId, Pageable pageable);
+}
@@ -2,10 +2,19 @@ package com.sparta.i_mu.domain.song.repository.querydsl;
 
 import com.sparta.i_mu.domain.song.entity.Song;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public interface CustomSongRepository {
 
-    List<Song> findByCategoryIdOrderByPostCountDesc(Long categoryId);
+    /**
+     * 검색 - 노래 제목 FULLTEXT 검색 (관련도 순)
+     * @param keyword
+     * @param pageable
+     * @return 검색 결과 노래 page
+     */
+    Page<Song> searchBySongTitle(String keyword, Pageable pageable);
 
 }
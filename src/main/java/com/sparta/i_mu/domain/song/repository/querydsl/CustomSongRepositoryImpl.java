@@ -1,12 +1,16 @@
 package com.sparta.i_mu.domain.song.repository.querydsl;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.sparta.i_mu.domain.post.entity.QPost;
-import com.sparta.i_mu.domain.postsonglink.entity.QPostSongLink;
 import com.sparta.i_mu.domain.song.entity.QSong;
 import com.sparta.i_mu.domain.song.entity.Song;
+import com.sparta.i_mu.global.util.FullTextSearch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,19 +23,27 @@ public class CustomSongRepositoryImpl implements CustomSongRepository {
     private final JPAQueryFactory jpaQueryFactory;
 
     @Override
-    public List<Song> findByCategoryIdOrderByPostCountDesc(Long categoryId) {
-        QPost qPost = QPost.post;
-        QPostSongLink qPostSongLink = QPostSongLink.postSongLink;
-
-        return jpaQueryFactory
-                .select(qPostSongLink.song)
-                .from(qPostSongLink)
-                .join(qPostSongLink.post, qPost)
-                .where(qPost.category.id.eq(categoryId))
-                .groupBy(qPostSongLink.song)
-                .orderBy(qPostSongLink.song.count().desc())
-                .limit(4)
+    public Page<Song> searchBySongTitle(String keyword, Pageable pageable) {
+        QSong qSong = QSong.song;
+        BooleanExpression condition = FullTextSearch.matches(qSong.songTitle, keyword);
+
+        JPAQuery<Song> query = jpaQueryFactory
+                .selectFrom(qSong)
+                .where(condition);
+        if (FullTextSearch.isFullTextSearchable(keyword)) {
+            query.orderBy(FullTextSearch.relevance(qSong.songTitle, keyword).desc());
+        }
+        List<Song> songs = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
                 .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(qSong.count())
+                .from(qSong)
+                .where(condition);
+
+        return PageableExecutionUtils.getPage(songs, pageable, countQuery::fetchOne);
     }
 
 }
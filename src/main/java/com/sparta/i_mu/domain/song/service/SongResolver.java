@@ -0,0 +1,84 @@
+package com.sparta.i_mu.domain.song.service;
+
+import com.sparta.i_mu.domain.song.dto.SongSaveRequestDto;
+import com.sparta.i_mu.domain.song.entity.Song;
+import com.sparta.i_mu.domain.song.repository.SongRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 작성/수정 시 요청한 노래들을 song 엔티티로 변환
+ * 노래 수와 상관없이 조회 1번, 없는 노래 insert 1번, 재조회 1번으로 처리한다.
+ * 같은 노래를 동시에 저장하는 경우에도 INSERT ... ON DUPLICATE KEY 로 unique 제약 위반 없이 한 행만 남는다.
+ * 트랜잭션 안에서 호출해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SongResolver {
+
+    private static final String INSERT_SQL_PREFIX = "INSERT INTO song (song_num, song_title, artist_name, album, audio_url, thumbnail, external_url) VALUES ";
+    private static final String INSERT_SQL_VALUES = "(?, ?, ?, ?, ?, ?, ?)";
+    // 이미 있는 노래는 그대로 둔다.
+    private static final String INSERT_SQL_SUFFIX = " ON DUPLICATE KEY UPDATE song_num = song_num";
+
+    private final SongRepository songRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param songSaveRequestDtos 요청한 노래 (songNum 중복은 처음 것만 사용)
+     * @return songNum -> song, 요청 순서 유지
+     */
+    public Map<String, Song> resolve(List<SongSaveRequestDto> songSaveRequestDtos) {
+        Map<String, SongSaveRequestDto> requested = songSaveRequestDtos.stream()
+                .collect(Collectors.toMap(SongSaveRequestDto::getSongNum, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+        if (requested.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+
+        Map<String, Song> found = toMap(songRepository.findAllBySongNumIn(requested.keySet()));
+
+        List<SongSaveRequestDto> missing = requested.values().stream()
+                .filter(song -> !found.containsKey(song.getSongNum()))
+                // 동시에 여러 노래를 저장하는 트랜잭션끼리 같은 순서로 잠그도록 정렬
+                .sorted(Comparator.comparing(SongSaveRequestDto::getSongNum))
+                .toList();
+        if (!missing.isEmpty()) {
+            insertIgnoringDuplicates(missing);
+            found.putAll(toMap(songRepository.findAllBySongNumInForShare(missing.stream().map(SongSaveRequestDto::getSongNum).toList())));
+        }
+
+        Map<String, Song> resolved = new LinkedHashMap<>();
+        requested.keySet().forEach(songNum -> {
+            Song song = found.get(songNum);
+            if (song == null) {
+                throw new IllegalArgumentException("해당 곡은 존재하지 않습니다.");
+            }
+            resolved.put(songNum, song);
+        });
+        return resolved;
+    }
+
+    private void insertIgnoringDuplicates(List<SongSaveRequestDto> songs) {
+        String sql = INSERT_SQL_PREFIX + String.join(", ", Collections.nCopies(songs.size(), INSERT_SQL_VALUES)) + INSERT_SQL_SUFFIX;
+        List<Object> params = new ArrayList<>(songs.size() * 7);
+        for (SongSaveRequestDto song : songs) {
+            params.add(song.getSongNum());
+            params.add(song.getSongTitle());
+            params.add(song.getArtistName());
+            params.add(song.getAlbum());
+            params.add(song.getAudioUrl());
+            params.add(song.getThumbnail());
+            params.add(song.getExternalUrl());
+        }
+        jdbcTemplate.update(sql, params.toArray());
+    }
+
+    private Map<String, Song> toMap(List<Song> songs) {
+        return songs.stream().collect(Collectors.toMap(Song::getSongNum, Function.identity(), (first, second) -> first, HashMap::new));
+    }
+}
@@ -0,0 +1,298 @@
+package com.sparta.i_mu.domain.song.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.i_mu.domain.song.dto.SongResponseDto;
+import com.sparta.i_mu.global.util.KeywordUtil;
+import com.sparta.i_mu.global.util.RedisUtil;
+import com.wrapper.spotify.exceptions.SpotifyWebApiException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Spotify 노래 검색 결과 캐시 (메모리 L1 -> Redis L2 -> Spotify)
+ * - 검색어는 정규화해서 키로 사용한다. ("IU", " iu ", NFD 한글 등이 같은 키)
+ * - 같은 검색어의 동시 미스는 하나의 Spotify 호출 결과를 함께 기다린다. (single-flight)
+ * - REFRESH_AFTER 가 지난 결과는 그대로 응답하고 백그라운드에서 새로 받아온다. (stale-while-revalidate)
+ *   EXPIRE_AFTER 가 지나면 더 이상 사용하지 않는다.
+ * - 백그라운드 갱신이 실패하면 연속 실패 횟수만큼 늘어나는 대기 시간 동안 다시 호출하지 않는다. (backoff)
+ * - 결과가 없는 검색어도 짧게 캐시해서 매번 Spotify 를 호출하지 않는다.
+ */
+@Slf4j
+@Component
+public class SongSearchCache {
+
+    private static final long REFRESH_AFTER_MILLIS = 60 * 60 * 1000L; // 1시간
+    private static final long EXPIRE_AFTER_MILLIS = 12 * 60 * 60 * 1000L; // 12시간 - Redis TTL 과 동일
+    private static final long EMPTY_REFRESH_AFTER_MILLIS = 5 * 60 * 1000L; // 결과 없음은 5분 후 갱신
+    private static final long EMPTY_EXPIRE_AFTER_MILLIS = 30 * 60 * 1000L;
+    private static final long RETRY_BASE_MILLIS = 30 * 1000L; // 갱신 실패 시 30초부터 두 배씩
+    private static final long RETRY_MAX_MILLIS = 30 * 60 * 1000L;
+    private static final int L1_MAX_SIZE = 1000;
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor refreshExecutor;
+
+    // 메모리 캐시 - L1_MAX_SIZE 를 넘으면 자주 조회되지 않는 검색어부터 제거
+    private final Cache<String, Entry> l1 = Caffeine.newBuilder()
+            .maximumSize(L1_MAX_SIZE)
+            .expireAfterWrite(Duration.ofMillis(EXPIRE_AFTER_MILLIS))
+            .build();
+    // 검색어별 진행 중인 Spotify 호출
+    private final Map<String, CompletableFuture<List<SongResponseDto>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter l1HitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+    private final Counter staleCounter;
+    private final Counter coalescedCounter;
+    private final Counter spotifySuccessCounter;
+    private final Counter spotifyFailureCounter;
+    private final Counter spotifyEmptyCounter;
+
+    public SongSearchCache(RedisUtil redisUtil, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.redisUtil = redisUtil;
+        this.objectMapper = objectMapper;
+        // 백그라운드 갱신 전용 - 밀리면 버리고 다음 조회 때 다시 시도한다.
+        this.refreshExecutor = new ThreadPoolTaskExecutor();
+        this.refreshExecutor.setCorePoolSize(2);
+        this.refreshExecutor.setMaxPoolSize(2);
+        this.refreshExecutor.setQueueCapacity(50);
+        this.refreshExecutor.setThreadNamePrefix("song-refresh-");
+        this.refreshExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        this.refreshExecutor.initialize();
+
+        this.l1HitCounter = Counter.builder("song.search.cache.requests").tag("result", "l1_hit").register(meterRegistry);
+        this.redisHitCounter = Counter.builder("song.search.cache.requests").tag("result", "redis_hit").register(meterRegistry);
+        this.missCounter = Counter.builder("song.search.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.staleCounter = Counter.builder("song.search.cache.stale").register(meterRegistry);
+        this.coalescedCounter = Counter.builder("song.search.cache.coalesced").register(meterRegistry);
+        this.spotifySuccessCounter = Counter.builder("song.search.spotify.calls").tag("outcome", "success").register(meterRegistry);
+        this.spotifyFailureCounter = Counter.builder("song.search.spotify.calls").tag("outcome", "failure").register(meterRegistry);
+        this.spotifyEmptyCounter = Counter.builder("song.search.spotify.calls").tag("outcome", "empty").register(meterRegistry);
+        Gauge.builder("song.search.cache.l1.size", this, SongSearchCache::l1Size).register(meterRegistry);
+    }
+
+    /**
+     * Spotify 조회 함수
+     */
+    @FunctionalInterface
+    public interface SongLoader {
+        List<SongResponseDto> load(String keyword) throws SpotifyWebApiException;
+    }
+
+    /**
+     * @param keyword 사용자가 입력한 검색어
+     * @param loader  캐시에 없을 때 호출할 Spotify 검색
+     * @return 검색 결과
+     */
+    public List<SongResponseDto> get(String keyword, SongLoader loader) throws SpotifyWebApiException {
+        String key = KeywordUtil.normalize(keyword);
+        long now = System.currentTimeMillis();
+
+        Entry entry = getFromL1(key, now);
+        if (entry != null) {
+            l1HitCounter.increment();
+        } else {
+            entry = getFromRedis(key, now);
+            if (entry != null) {
+                redisHitCounter.increment();
+                putL1(key, entry);
+            }
+        }
+
+        if (entry != null) {
+            if (entry.needsRefresh(now)) {
+                staleCounter.increment();
+                refreshInBackground(key, entry, loader);
+            }
+            return entry.getSongs();
+        }
+
+        missCounter.increment();
+        return load(key, loader);
+    }
+
+    /**
+     * 같은 키로 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 직접 호출한다.
+     */
+    private List<SongResponseDto> load(String key, SongLoader loader) throws SpotifyWebApiException {
+        CompletableFuture<List<SongResponseDto>> call = new CompletableFuture<>();
+        CompletableFuture<List<SongResponseDto>> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            coalescedCounter.increment();
+            return await(running);
+        }
+
+        try {
+            List<SongResponseDto> songs = callSpotify(key, loader);
+            call.complete(songs);
+            return songs;
+        } catch (SpotifyWebApiException | RuntimeException e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private void refreshInBackground(String key, Entry stale, SongLoader loader) {
+        CompletableFuture<List<SongResponseDto>> call = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, call) != null) {
+            return; // 이미 갱신 중
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    call.complete(callSpotify(key, loader));
+                } catch (Exception e) {
+                    Entry failed = stale.failed(System.currentTimeMillis());
+                    log.warn("노래 검색 결과 백그라운드 갱신 실패 - keyword : {}, 연속 실패 : {}", key, failed.getFailures(), e);
+                    // 대기 시간 동안은 기존 결과로 응답하고 Spotify 를 다시 호출하지 않는다.
+                    putL1(key, failed);
+                    saveToRedis(key, failed);
+                    call.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(key, call);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, call);
+            call.cancel(false);
+        }
+    }
+
+    private List<SongResponseDto> callSpotify(String key, SongLoader loader) throws SpotifyWebApiException {
+        List<SongResponseDto> songs;
+        try {
+            songs = loader.load(key);
+        } catch (SpotifyWebApiException | RuntimeException e) {
+            spotifyFailureCounter.increment();
+            throw e;
+        }
+        long now = System.currentTimeMillis();
+        Entry entry;
+        if (songs == null || songs.isEmpty()) {
+            spotifyEmptyCounter.increment();
+            songs = List.of();
+            entry = new Entry(songs, now + EMPTY_REFRESH_AFTER_MILLIS, now + EMPTY_EXPIRE_AFTER_MILLIS, 0, 0);
+        } else {
+            spotifySuccessCounter.increment();
+            entry = new Entry(songs, now + REFRESH_AFTER_MILLIS, now + EXPIRE_AFTER_MILLIS, 0, 0);
+        }
+        putL1(key, entry);
+        saveToRedis(key, entry);
+        return songs;
+    }
+
+    private List<SongResponseDto> await(CompletableFuture<List<SongResponseDto>> running) throws SpotifyWebApiException {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SpotifyWebApiException spotifyException) {
+                throw spotifyException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private Entry getFromL1(String key, long now) {
+        Entry entry = l1.getIfPresent(key);
+        if (entry != null && entry.isExpired(now)) {
+            l1.invalidate(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private void putL1(String key, Entry entry) {
+        l1.put(key, entry);
+    }
+
+    private long l1Size() {
+        return l1.estimatedSize();
+    }
+
+    /**
+     * Redis 조회 - 값이 없거나, 이전 형식이거나, Redis 오류면 null
+     */
+    private Entry getFromRedis(String key, long now) {
+        try {
+            String cached = redisUtil.getSearchedSong(key);
+            if (cached == null) {
+                return null;
+            }
+            Entry entry = objectMapper.readValue(cached, Entry.class);
+            return entry.isExpired(now) || entry.getSongs() == null ? null : entry;
+        } catch (Exception e) {
+            log.warn("Redis 노래 검색 결과 조회 실패 - keyword : {}", key, e);
+            return null;
+        }
+    }
+
+    private void saveToRedis(String key, Entry entry) {
+        try {
+            redisUtil.storeSearchedSong(key, objectMapper.writeValueAsString(entry));
+        } catch (Exception e) {
+            // 메모리 캐시에는 들어갔으므로 응답은 정상 처리
+            log.error("Redis 노래 검색 결과 저장 실패 - keyword : {}", key, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    /**
+     * 캐시 저장 형식 - 결과와 갱신/만료 시각(epoch millis), 갱신 실패 시 연속 실패 횟수와 다음 시도 가능 시각
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry {
+        private List<SongResponseDto> songs;
+        private long refreshAt;
+        private long expiresAt;
+        private int failures;
+        private long retryAfter;
+
+        boolean needsRefresh(long now) {
+            return now >= refreshAt && now >= retryAfter;
+        }
+
+        /**
+         * 갱신 실패 반영 - 대기 시간은 실패할 때마다 두 배 (최대 RETRY_MAX)
+         */
+        Entry failed(long now) {
+            int nextFailures = failures + 1;
+            long backoff = Math.min(RETRY_MAX_MILLIS, RETRY_BASE_MILLIS << Math.min(nextFailures - 1, 16));
+            return new Entry(songs, refreshAt, expiresAt, nextFailures, now + backoff);
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.sparta.i_mu.domain.song.service;
+
+import com.sparta.i_mu.domain.post.entity.Post;
+import com.sparta.i_mu.domain.song.entity.Song;
+import com.sparta.i_mu.domain.song.entity.SongStats;
+import com.sparta.i_mu.domain.song.repository.SongStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+import static com.sparta.i_mu.domain.song.entity.SongStats.ALL_CATEGORIES;
+
+/**
+ * 노래 인기 순위용 게시글 수(song_stats) 관리
+ * 게시글에 노래가 연결/해제될 때 같은 트랜잭션 안에서 전체(0)와 해당 카테고리 행을 함께 증감하고,
+ * 인기 노래 조회는 post_song_link 전체 GROUP BY 대신 song_stats 인덱스에서 top-N 만 읽는다.
+ * 누락된 갱신으로 생긴 차이는 매일 새벽 post_song_link 기준으로 다시 계산해서 맞춘다.
+ */
+@Slf4j
+@Service
+public class SongStatsService {
+
+    private static final String INCREMENT_SQL_PREFIX = "INSERT INTO song_stats (song_id, category_id, post_count) VALUES ";
+    private static final String INCREMENT_SQL_SUFFIX = " ON DUPLICATE KEY UPDATE post_count = post_count + VALUES(post_count)";
+    private static final String DECREMENT_SQL = "UPDATE song_stats SET post_count = GREATEST(post_count - 1, 0) " +
+            "WHERE category_id IN (?, ?) AND song_id IN (%s)";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM song_stats";
+    // 재계산은 staging 테이블에 만든 뒤 RENAME TABLE 로 한 번에 교체한다.
+    private static final String DROP_STAGING_SQL = "DROP TABLE IF EXISTS song_stats_staging";
+    private static final String CREATE_STAGING_SQL = "CREATE TABLE song_stats_staging LIKE song_stats";
+    private static final String SWAP_SQL = "RENAME TABLE song_stats TO song_stats_old, song_stats_staging TO song_stats";
+    private static final String DROP_OLD_SQL = "DROP TABLE IF EXISTS song_stats_old";
+    private static final String REBUILD_ALL_SQL = "INSERT INTO song_stats_staging (song_id, category_id, post_count) " +
+            "SELECT ps.song_id, " + ALL_CATEGORIES + ", COUNT(*) FROM post_song_link ps JOIN post p ON p.post_id = ps.post_id " +
+            "WHERE p.deleted = false GROUP BY ps.song_id";
+    private static final String REBUILD_CATEGORY_SQL = "INSERT INTO song_stats_staging (song_id, category_id, post_count) " +
+            "SELECT ps.song_id, p.category_id, COUNT(*) FROM post_song_link ps JOIN post p ON p.post_id = ps.post_id " +
+            "WHERE p.deleted = false GROUP BY ps.song_id, p.category_id";
+
+    private final SongStatsRepository songStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readCommittedTransaction;
+
+    public SongStatsService(SongStatsRepository songStatsRepository, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.songStatsRepository = songStatsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // 재계산 집계가 post / post_song_link 에 공유 잠금(next-key lock)을 걸지 않도록
+        this.readCommittedTransaction = new TransactionTemplate(transactionManager);
+        this.readCommittedTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    /**
+     * 게시글에 노래가 연결됨 - 게시글 트랜잭션 안에서 호출
+     * @param categoryId 게시글 카테고리
+     * @param songIds    연결된 노래
+     */
+    public void increment(Long categoryId, Collection<Long> songIds) {
+        List<Long> sorted = sortedDistinct(songIds);
+        if (sorted.isEmpty()) {
+            return;
+        }
+        List<Object> params = new ArrayList<>(sorted.size() * 6);
+        for (Long songId : sorted) {
+            params.addAll(List.of(songId, ALL_CATEGORIES, 1));
+            params.addAll(List.of(songId, categoryId, 1));
+        }
+        jdbcTemplate.update(INCREMENT_SQL_PREFIX + String.join(", ", Collections.nCopies(sorted.size() * 2, "(?, ?, ?)")) + INCREMENT_SQL_SUFFIX,
+                params.toArray());
+    }
+
+    /**
+     * 게시글에서 노래 연결이 해제됨 - 게시글 트랜잭션 안에서 호출
+     * @param categoryId 게시글 카테고리
+     * @param songIds    해제된 노래
+     */
+    public void decrement(Long categoryId, Collection<Long> songIds) {
+        List<Long> sorted = sortedDistinct(songIds);
+        if (sorted.isEmpty()) {
+            return;
+        }
+        List<Object> params = new ArrayList<>(sorted.size() + 2);
+        params.add(ALL_CATEGORIES);
+        params.add(categoryId);
+        params.addAll(sorted);
+        jdbcTemplate.update(String.format(DECREMENT_SQL, String.join(", ", Collections.nCopies(sorted.size(), "?"))), params.toArray());
+    }
+
+    /**
+     * 게시글 삭제 - 연결된 노래 전체 감소
+     * @param post
+     */
+    public void removePost(Post post) {
+        decrement(post.getCategory().getId(), songIdsOf(post));
+    }
+
+    public List<Long> songIdsOf(Post post) {
+        return post.getPostSongLink().stream()
+                .map(postSongLink -> postSongLink.getSong().getId())
+                .toList();
+    }
+
+    /**
+     * 게시글 수가 많은 노래 top-N
+     * @param categoryId 카테고리, 전체는 SongStats.ALL_CATEGORIES
+     * @param size
+     * @return 노래 리스트
+     */
+    public List<Song> getTopSongs(Long categoryId, int size) {
+        return songStatsRepository.findTopSongs(categoryId, PageRequest.of(0, size));
+    }
+
+    /**
+     * 처음 배포되어 song_stats 가 비어있으면 바로 계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        if (count == null || count == 0) {
+            rebuild();
+        }
+    }
+
+    /**
+     * post_song_link 기준으로 전체 다시 계산
+     * staging 테이블에 READ COMMITTED 로 집계한 뒤 RENAME TABLE 로 원자적으로 교체해서,
+     * 집계하는 동안 게시글 작성/수정/삭제와 song_stats 증감을 막지 않고 조회에는 이전 값이 보인다.
+     * 집계 이후 교체 전까지의 증감은 이전 테이블에 반영되어 사라지며, 다음 재계산에서 맞춰진다.
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void rebuild() {
+        try {
+            // 이전 재계산이 중간에 실패했을 때 남은 테이블 정리
+            jdbcTemplate.execute(DROP_STAGING_SQL);
+            jdbcTemplate.execute(DROP_OLD_SQL);
+            jdbcTemplate.execute(CREATE_STAGING_SQL);
+            readCommittedTransaction.executeWithoutResult(status -> {
+                jdbcTemplate.update(REBUILD_ALL_SQL);
+                jdbcTemplate.update(REBUILD_CATEGORY_SQL);
+            });
+            jdbcTemplate.execute(SWAP_SQL);
+            jdbcTemplate.execute(DROP_OLD_SQL);
+            log.info("노래 인기 통계 재계산 완료");
+        } catch (Exception e) {
+            log.error("노래 인기 통계 재계산 중 오류 발생 : ", e);
+        }
+    }
+
+    // 동시에 같은 노래를 갱신하는 트랜잭션끼리 같은 순서로 잠그도록 정렬
+    private List<Long> sortedDistinct(Collection<Long> songIds) {
+        return songIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
@@ -47,8 +47,7 @@ public class TokenService {
             // refreshToken이 유효하다면 새로운 accessToken 발급
             String newAccessToken = jwtUtil.createAccessToken(email);
             log.info("newAccessToken : {}", newAccessToken);
-            redisUtil.removeRefreshToken(accessToken);
-            redisUtil.storeRefreshToken(newAccessToken, refreshTokenRedis);
+            redisUtil.replaceRefreshToken(accessToken, newAccessToken, refreshTokenRedis);
             return newAccessToken;
             // Redis에 새로운 리프레시 토큰 저장
         } else {
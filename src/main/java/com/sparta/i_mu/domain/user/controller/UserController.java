@@ -1,8 +1,10 @@
 package com.sparta.i_mu.domain.user.controller;
 
 import com.sparta.i_mu.domain.comment.dto.CommentListResponseDto;
+import com.sparta.i_mu.domain.post.dto.PostListResponseDto;
 import com.sparta.i_mu.domain.user.dto.*;
 import com.sparta.i_mu.domain.wishlist.dto.WishListResponseDto;
+import com.sparta.i_mu.global.responseResource.CursorPageResponseDto;
 import com.sparta.i_mu.global.responseResource.ResponseResource;
 import com.sparta.i_mu.global.security.UserDetailsImpl;
 import com.sparta.i_mu.domain.user.service.UserService;
@@ -96,6 +98,15 @@ public class UserController {
         return userService.getUserPosts(userId, pageable);
     }
 
+    @GetMapping("/{userId}/posts/cursor")
+    @Operation(summary = "작성글 커서 조회", description = "최신순, 다음 페이지는 응답의 nextCursor 를 cursor 로 전달")
+    @Parameter(name = "userId", description = "작성글 조회할 유저의 ID ")
+    public CursorPageResponseDto<PostListResponseDto> getUserPostsByCursor(@PathVariable Long userId,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam int size) {
+        return userService.getUserPostsByCursor(userId, cursor, size);
+    }
+
     @GetMapping("/{userId}/comments")
     @Operation(summary = "댓글 조회", description = "댓글 조회")
     @Parameter(name = "userId", description = "댓글 조회할 유저의 ID ")
@@ -1,8 +1,7 @@
 package com.sparta.i_mu.domain.user.repository;
 
 import com.sparta.i_mu.domain.user.entity.User;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.sparta.i_mu.domain.user.repository.querydsl.CustomUserRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -10,7 +9,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, CustomUserRepository {
     Optional<User> findByNickname(String nickname);
 
     Optional<User> findByEmail(String Email);
@@ -22,9 +21,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT f.followUser, COUNT(f) FROM Follow f GROUP BY 1 ORDER BY 2 DESC")
     List<User> findAllByOrderByFollowCountDesc();
 
-    // 검색 시 -> 검색 키워드와 일치하는 user 리스트를 나오게 한다.
-    Page<User> findAllByNicknameContaining(String keyword, Pageable pageable);
-
     Optional<User> findByPhoneNumber(String phoneNumber);
 
 
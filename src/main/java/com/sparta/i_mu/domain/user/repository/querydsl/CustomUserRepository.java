@@ -0,0 +1,16 @@
+package com.sparta.i_mu.domain.user.repository.querydsl;
+
+import com.sparta.i_mu.domain.user.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface CustomUserRepository {
+
+    /**
+     * 검색 - 닉네임 FULLTEXT 검색 (관련도 순)
+     * @param keyword
+     * @param pageable
+     * @return 검색 결과 user page
+     */
+    Page<User> searchByNickname(String keyword, Pageable pageable);
+}
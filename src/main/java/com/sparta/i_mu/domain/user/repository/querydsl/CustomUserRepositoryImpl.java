@@ -0,0 +1,46 @@
+package com.sparta.i_mu.domain.user.repository.querydsl;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.i_mu.domain.user.entity.QUser;
+import com.sparta.i_mu.domain.user.entity.User;
+import com.sparta.i_mu.global.util.FullTextSearch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomUserRepositoryImpl implements CustomUserRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public Page<User> searchByNickname(String keyword, Pageable pageable) {
+        QUser qUser = QUser.user;
+        BooleanExpression condition = FullTextSearch.matches(qUser.nickname, keyword);
+
+        JPAQuery<User> query = jpaQueryFactory
+                .selectFrom(qUser)
+                .where(condition);
+        if (FullTextSearch.isFullTextSearchable(keyword)) {
+            query.orderBy(FullTextSearch.relevance(qUser.nickname, keyword).desc());
+        }
+        List<User> users = query
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = jpaQueryFactory
+                .select(qUser.count())
+                .from(qUser)
+                .where(condition);
+
+        return PageableExecutionUtils.getPage(users, pageable, countQuery::fetchOne);
+    }
+}
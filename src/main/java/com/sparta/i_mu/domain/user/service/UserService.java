@@ -10,8 +10,11 @@ import com.sparta.i_mu.domain.kakao.service.KakaoService;
 import com.sparta.i_mu.domain.notification.repository.EmitterRepository;
 import com.sparta.i_mu.domain.post.dto.PostListResponseDto;
 import com.sparta.i_mu.domain.post.entity.Post;
+import com.sparta.i_mu.domain.post.event.PostChangedEvent;
 import com.sparta.i_mu.domain.post.mapper.PostMapper;
 import com.sparta.i_mu.domain.post.repository.PostRepository;
+import com.sparta.i_mu.domain.search.service.SuggestionService;
+import com.sparta.i_mu.domain.song.service.SongStatsService;
 import com.sparta.i_mu.domain.user.dto.*;
 import com.sparta.i_mu.domain.user.entity.User;
 import com.sparta.i_mu.domain.user.repository.UserRepository;
@@ -21,9 +24,13 @@ import com.sparta.i_mu.domain.wishlist.mapper.WishListMapper;
 import com.sparta.i_mu.domain.wishlist.repository.WishlistRepository;
 import com.sparta.i_mu.global.errorCode.ErrorCode;
 import com.sparta.i_mu.global.exception.UserNotFoundException;
+import com.sparta.i_mu.global.responseResource.CursorPageResponseDto;
 import com.sparta.i_mu.global.responseResource.ResponseResource;
 import com.sparta.i_mu.global.security.UserDetailsImpl;
+import com.sparta.i_mu.global.security.RevokedTokenRegistry;
+import com.sparta.i_mu.global.security.UserPrincipalCache;
 import com.sparta.i_mu.global.util.AwsS3Util;
+import com.sparta.i_mu.global.util.CursorUtil;
 import com.sparta.i_mu.global.util.JwtUtil;
 import com.sparta.i_mu.global.util.RedisUtil;
 import io.jsonwebtoken.Claims;
@@ -31,6 +38,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -73,6 +81,11 @@ public class UserService {
     private final PostMapper postMapper;
     private final KakaoService kakaoService;
     private final WishListMapper wishListMapper;
+    private final SuggestionService suggestionService;
+    private final SongStatsService songStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
 
     // 회원가입 서비스
     public ResponseEntity<MessageResponseDto> createUser(SignUpRequestDto signUpRequestDto) {
@@ -110,6 +123,7 @@ public class UserService {
                 .build();
 
         userRepository.save(user);
+        suggestionService.addNickname(user.getNickname());
 
         return ResponseEntity.ok(new MessageResponseDto("회원가입 되었습니다.", HttpStatus.OK.toString()));
     }
@@ -186,17 +200,16 @@ public class UserService {
 
 
         findUser.update(user);
+        userPrincipalCache.evict(findUser.getEmail());
         log.info("수정 전 닉네임: {}, 수정 후 닉네임: {}", originNickname, getNickname);
 
         if (!originNickname.equals(getNickname)) {
-            // redis에서 refreshToken 삭제
-            redisUtil.removeRefreshToken(jwtUtil.getAccessTokenFromRequest(request));
-
             String accessToken = jwtUtil.createAccessToken(findUser.getEmail());
             String refreshToken = jwtUtil.createRefreshToken(findUser.getEmail());
             jwtUtil.addTokenToHeader(accessToken, refreshToken, response);
-            // redis에 새로 발급받은 refreshToken 저장
-            redisUtil.storeRefreshToken(accessToken, refreshToken);
+            // redis에서 이전 refreshToken 삭제 후 새로 발급받은 refreshToken 저장
+            redisUtil.replaceRefreshToken(jwtUtil.getAccessTokenFromRequest(request), accessToken, refreshToken);
+            suggestionService.addNickname(getNickname);
         }
         return ResponseResource.data(getUserImage, HttpStatus.OK, "프로필 수정 성공");
     }
@@ -219,6 +232,7 @@ public class UserService {
                 .build();
 
         findUser.passwordUpdate(changePassswordUser);
+        userPrincipalCache.evict(findUser.getEmail());
 
         return ResponseResource.message("비밀번호 수정 성공", HttpStatus.OK);
 
@@ -256,6 +270,14 @@ public class UserService {
         return postResponseDto;
     }
 
+    // 작성글 커서 조회 (최신순)
+    public CursorPageResponseDto<PostListResponseDto> getUserPostsByCursor(Long userId, String cursor, int size) {
+        CursorUtil.validateSize(size);
+        findUser(userId);
+        List<Post> posts = postRepository.findUserPostsByCursor(userId, CursorUtil.decode(cursor), size);
+        return CursorPageResponseDto.of(posts, size, post -> CursorUtil.encode(post.getCreatedAt(), post.getId()), postMapper::mapToPostListResponseDtos);
+    }
+
     public Page<CommentListResponseDto> getUserComments(Long userId, Optional<UserDetailsImpl> userDetails, Pageable pageable) {
         if (userDetails.isPresent() && userDetails.get().getUser().getId().equals(userId)) {
             Page<CommentListResponseDto> commentResponseDtoList = getCommentListResponseDtoList(userId, pageable);
@@ -295,9 +317,7 @@ public class UserService {
     // 내가 작성한 리스트 조회 -> deleted false ✅
     private List<PostListResponseDto> getPostListResponseDtoList(Long userId) {
         List<Post> postList = postRepository.findAllByUserIdAndDeletedFalseOrderByCreatedAtDesc(userId);
-        List<PostListResponseDto> postResponseDtoList = postList.stream()
-                .map(postMapper::mapToPostListResponseDto)
-                .collect(Collectors.toList());
+        List<PostListResponseDto> postResponseDtoList = postMapper.mapToPostListResponseDtos(postList);
 
         return postResponseDtoList;
     }
@@ -307,7 +327,7 @@ public class UserService {
 
         Page<Post> postList = postRepository.findAllByUserIdAndDeletedFalse(userId, pageable);
 
-        Page<PostListResponseDto> postResponseDtoList = postList.map(postMapper::mapToPostListResponseDto);
+        Page<PostListResponseDto> postResponseDtoList = postMapper.mapToPostListResponseDtoPage(postList);
 
         return postResponseDtoList;
     }
@@ -316,16 +336,16 @@ public class UserService {
     // 좋아요 한 리스트 조회 -> deleted false ✅
     private List<WishListResponseDto> getWishlistResponseDtoList(Long userId) {
         List<Wishlist> wishList = wishlistRepository.findAllByUserIdAndPostDeletedFalseOrderByCreatedAtDesc(userId);
-        List<WishListResponseDto> wishListReponseList = wishList.stream()
-                .map(wishlist -> wishListMapper.mapToWishListResponseDto(wishlist.getPost()))
-                .collect(Collectors.toList());
+        List<WishListResponseDto> wishListReponseList = wishListMapper.mapToWishListResponseDtos(wishList.stream()
+                .map(Wishlist::getPost)
+                .toList());
 
         return wishListReponseList;
     }
 
     private Page<WishListResponseDto> getWishlistResponseDtoList(Long userId, Pageable pageable) {
         Page<Wishlist> wishList = wishlistRepository.findAllByUserIdAndPostDeletedFalse(userId, pageable);
-        Page<WishListResponseDto> wishListReponseList = wishList.map(wishlist -> wishListMapper.mapToWishListResponseDto(wishlist.getPost()));
+        Page<WishListResponseDto> wishListReponseList = wishListMapper.mapToWishListResponseDtoPage(wishList.map(Wishlist::getPost));
 
         return wishListReponseList;
     }
@@ -379,13 +399,14 @@ public class UserService {
             redisUtil.removeRefreshToken(accessToken);
             //새롭게 redis에 블랙리스트 저장 - 만료시간이 지났을때 블랙리스트도 삭제
 
-            redisUtil.storeBlacklist(userInfo, accessToken, expirationInSeconds);
+            revokedTokenRegistry.revoke(userInfo, accessToken, expirationInSeconds);
+            userPrincipalCache.evict(userInfo);
 
             // sse 삭제
              Optional<User> findUser = userRepository.findByEmail(userInfo);
-             String id = String.valueOf(findUser.get().getId());
-             emitterRepository.deleteAllStartWithId(id);
-             emitterRepository.deleteAllEventCacheStartWithId(id);
+             Long id = findUser.get().getId();
+             emitterRepository.deleteAllByUserId(id);
+             emitterRepository.deleteAllEventCacheByUserId(id);
 
 
             return ResponseResource.message("로그아웃 완료했습니다", HttpStatus.OK);
@@ -410,6 +431,7 @@ public class UserService {
             // 먼저 회원이 데이터 베이스에 존재하는지
             User cancelUser = userRepository.findById(user.getId()).orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_AUTHENTICATED.getMessage()));
             Long cancelUserId = cancelUser.getId();
+            userPrincipalCache.evict(cancelUser.getEmail());
             log.info("삭제 할 User 의 아이디 : {}", cancelUser.getId());
             // 카카오 아이디가가 존재할 때
             if (cancelUser.getKakaoId() != null) {
@@ -460,6 +482,9 @@ public class UserService {
             post.setDeletedAt(LocalDateTime.now());
             post.setDeleted(true);
             postRepository.save(post);
+            songStatsService.removePost(post);
+            // 지도 타일, 인기 장소/게시글, 자동완성은 커밋 이후 이벤트로 갱신
+            eventPublisher.publishEvent(PostChangedEvent.deleted(post));
         });
     }
 
@@ -489,6 +514,10 @@ public class UserService {
     private boolean KakaoAllDelete(Long userId) {
         try {
             List<Post> posts = postRepository.findAllByUserIdAndDeletedFalse(userId);
+            posts.forEach(post -> {
+                songStatsService.removePost(post);
+                eventPublisher.publishEvent(PostChangedEvent.deleted(post));
+            });
             postRepository.deleteAll(posts);
 
             List<Comment> comments = commentRepository.findAllByUserIdAndDeletedFalse(userId);
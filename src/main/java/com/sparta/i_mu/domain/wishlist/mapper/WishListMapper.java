@@ -4,12 +4,17 @@ import com.sparta.i_mu.domain.song.dto.SongResponseDto;
 import com.sparta.i_mu.domain.song.mapper.SongMapper;
 import com.sparta.i_mu.domain.wishlist.dto.WishListResponseDto;
 import com.sparta.i_mu.domain.post.entity.Post;
+import com.sparta.i_mu.domain.post.mapper.PostMapper;
 import com.sparta.i_mu.domain.postsonglink.repository.PostSongLinkRepository;
 import com.sparta.i_mu.domain.wishlist.repository.WishlistRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -18,6 +23,7 @@ public class WishListMapper {
     private final PostSongLinkRepository postSongLinkRepository;
     private final WishlistRepository wishlistRepository;
     private final SongMapper songMapper;
+    private final PostMapper postMapper;
 
     public WishListResponseDto mapToWishListResponseDto(Post post) {
         List<SongResponseDto> songs = postSongLinkRepository.findAllByPostId(post.getId())
@@ -25,6 +31,27 @@ public class WishListMapper {
                 .map(postSongLink -> songMapper.entityToResponseDto(postSongLink.getSong()))
                 .collect(Collectors.toList());
 
+        return buildWishListResponseDto(post, songs);
+    }
+
+    /**
+     * 좋아요 한 게시글 리스트를 한 번에 매핑 - 노래는 IN 쿼리 한 번으로 조회
+     * @param posts
+     * @return 입력 순서를 유지한 WishListResponseDto 리스트
+     */
+    public List<WishListResponseDto> mapToWishListResponseDtos(List<Post> posts) {
+        Map<Long, List<SongResponseDto>> songsByPostId = postMapper.findSongsByPostIds(posts);
+
+        return posts.stream()
+                .map(post -> buildWishListResponseDto(post, songsByPostId.getOrDefault(post.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    public Page<WishListResponseDto> mapToWishListResponseDtoPage(Page<Post> posts) {
+        return new PageImpl<>(mapToWishListResponseDtos(posts.getContent()), posts.getPageable(), posts.getTotalElements());
+    }
+
+    private WishListResponseDto buildWishListResponseDto(Post post, List<SongResponseDto> songs) {
         return WishListResponseDto.builder()
                 .postId(post.getId())
                 .category(post.getCategory().getId())
@@ -2,6 +2,7 @@ package com.sparta.i_mu.domain.wishlist.service;
 
 import com.sparta.i_mu.domain.notification.service.NotificationService;
 import com.sparta.i_mu.domain.post.entity.Post;
+import com.sparta.i_mu.domain.post.event.PostChangedEvent;
 import com.sparta.i_mu.domain.user.entity.User;
 import com.sparta.i_mu.domain.wishlist.entity.Wishlist;
 import com.sparta.i_mu.global.errorCode.ErrorCode;
@@ -10,6 +11,7 @@ import com.sparta.i_mu.domain.post.repository.PostRepository;
 import com.sparta.i_mu.domain.wishlist.repository.WishlistRepository;
 import com.sparta.i_mu.global.util.NotificationType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +25,7 @@ public class WishlistService {
     private final WishlistRepository wishlistRepository;
     private final PostRepository postRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ResponseResource<?> createWishlist(Long postId, User user) {
@@ -34,6 +37,7 @@ public class WishlistService {
             post.downWishlistCount();
             wishlistRepository.delete(wishlist.get());
             postRepository.save(post);
+            eventPublisher.publishEvent(PostChangedEvent.wishlist(post));
             return ResponseResource.message("좋아요 삭제", HttpStatus.OK);
         }
 
@@ -44,6 +48,7 @@ public class WishlistService {
                 .build();
 
         wishlistRepository.save(saveWishlist);
+        eventPublisher.publishEvent(PostChangedEvent.wishlist(post));
         notificationService.wishlistSend(post.getUser(), user, NotificationType.WISHLIST,postId, post.getPostTitle(),"wishlist");
 
         return ResponseResource.message("좋아요 성공", HttpStatus.OK);
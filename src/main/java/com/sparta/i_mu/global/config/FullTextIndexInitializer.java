@@ -0,0 +1,79 @@
+package com.sparta.i_mu.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+
+/**
+ * 검색용 FULLTEXT 인덱스 생성
+ * JPA @Index 로는 FULLTEXT 인덱스를 만들 수 없어서, 애플리케이션 시작 시 없는 인덱스만 생성한다.
+ * 한글 검색을 위해 ngram parser(기본 ngram_token_size = 2)를 사용한다.
+ * 인덱스는 InnoDB 가 insert / update / delete 시점에 함께 갱신한다.
+ *
+ * 불용어 처리를 끈 상태로 만든다 - ngram parser 는 불용어("a", "at", "is", "in" ...)가 포함된 토큰을 버리므로
+ * 불용어가 켜져 있으면 영문 제목의 일부 구문이 검색되지 않는다.
+ * 인덱스 생성 세션에서 innodb_ft_enable_stopword 를 끄고 만들며, 서버(my.cnf / RDS 파라미터 그룹)에도
+ * innodb_ft_enable_stopword = OFF 를 설정해야 OPTIMIZE TABLE 등으로 다시 만들어질 때도 같은 기준이 유지된다.
+ * 불용어가 켜진 채로 만들어진 이전 인덱스(LEGACY)는 새 인덱스를 만든 뒤 삭제한다.
+ *
+ * 첫 FULLTEXT 인덱스는 FTS_DOC_ID 추가로 테이블을 다시 만들고, 그동안 MATCH 조회가 실패하므로
+ * ApplicationRunner 가 아니라 웹 서버가 시작되기 전(모든 싱글톤 생성 직후)에 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextIndexInitializer implements SmartInitializingSingleton {
+
+    private static final String[][] FULLTEXT_INDEXES = {
+            // table, index, column, 이전(불용어 사용) index
+            {"post", "ft_post_post_title_ns", "post_title", "ft_post_post_title"},
+            {"user", "ft_user_nickname_ns", "nickname", "ft_user_nickname"},
+            {"song", "ft_song_song_title_ns", "song_title", "ft_song_song_title"},
+            {"location", "ft_location_address_ns", "address", "ft_location_address"}
+    };
+
+    private static final String EXISTS_INDEX_SQL = "SELECT COUNT(*) FROM information_schema.statistics " +
+            "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String[] index : FULLTEXT_INDEXES) {
+            try {
+                if (!existsIndex(index[0], index[1])) {
+                    createIndex(index[0], index[1], index[2]);
+                    log.info("FULLTEXT 인덱스 생성 완료 : {}", index[1]);
+                }
+                if (existsIndex(index[0], index[3])) {
+                    jdbcTemplate.execute(String.format("ALTER TABLE `%s` DROP INDEX %s", index[0], index[3]));
+                    log.info("이전 FULLTEXT 인덱스 삭제 완료 : {}", index[3]);
+                }
+            } catch (Exception e) {
+                log.error("FULLTEXT 인덱스 생성 중 오류 발생 : {}", index[1], e);
+            }
+        }
+    }
+
+    private boolean existsIndex(String table, String index) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_INDEX_SQL, Integer.class, table, index);
+        return count != null && count > 0;
+    }
+
+    // 불용어 설정은 세션 변수이므로 같은 커넥션에서 끄고 인덱스를 만든다.
+    private void createIndex(String table, String index, String column) {
+        jdbcTemplate.execute((Statement statement) -> {
+            statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+            try {
+                statement.execute(String.format("ALTER TABLE `%s` ADD FULLTEXT INDEX %s (%s) WITH PARSER ngram", table, index, column));
+            } finally {
+                statement.execute("SET SESSION innodb_ft_enable_stopword = DEFAULT");
+            }
+            return null;
+        });
+    }
+}
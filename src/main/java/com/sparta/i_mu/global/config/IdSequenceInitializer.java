@@ -0,0 +1,40 @@
+package com.sparta.i_mu.global.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * IDENTITY 에서 SEQUENCE 로 바꾼 엔티티의 시퀀스 테이블 값 보정
+ * MySQL 에서는 시퀀스가 테이블(next_val)로 만들어지고 1부터 시작하므로,
+ * 기존 행의 id 와 겹치지 않도록 시작 시 next_val 을 MAX(id) + allocationSize 이상으로 올린다.
+ * 요청을 받기 전에 보정해야 하므로 ApplicationRunner 가 아니라 모든 싱글톤(EntityManagerFactory 포함) 생성 직후,
+ * 웹 서버가 시작되기 전에 실행한다.
+ * 이전 버전(IDENTITY)과 새 버전이 함께 떠 있는 롤링 배포 중에는 id 가 겹칠 수 있으므로 한 번에 교체해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    private static final Object[][] SEQUENCES = {
+            // sequence table, entity table, allocationSize
+            {"post_song_link_seq", "post_song_link", 50}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Object[] sequence : SEQUENCES) {
+            try {
+                jdbcTemplate.update(String.format("UPDATE `%s` SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + %d + 1 FROM `%s`))",
+                        sequence[0], sequence[2], sequence[1]));
+            } catch (Exception e) {
+                log.error("시퀀스 값 보정 중 오류 발생 : {}", sequence[0], e);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.i_mu.global.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색 함수 등록
+ * JPQL / QueryDSL 에서 function('match_against', 컬럼, 검색어) 로 MATCH ... AGAINST 를 사용할 수 있게 한다.
+ * META-INF/services/org.hibernate.boot.model.FunctionContributor 로 등록된다.
+ */
+public class MySQLFullTextFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
@@ -4,7 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.i_mu.global.filter.JwtAuthenticationFilter;
 import com.sparta.i_mu.global.filter.JwtAuthorizationFilter;
 import com.sparta.i_mu.global.util.JwtUtil;
-import com.sparta.i_mu.global.security.UserDetailsServiceImpl;
+import com.sparta.i_mu.global.security.RevokedTokenRegistry;
+import com.sparta.i_mu.global.security.UserPrincipalCache;
 import com.sparta.i_mu.global.util.RedisUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -33,7 +34,8 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 public class WebSecurityConfig {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
     private final AuthenticationConfiguration authenticationConfiguration;
     private final ObjectMapper objectMapper;
     private final WebConfig webConfig;
@@ -62,7 +64,7 @@ public class WebSecurityConfig {
     }
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter(){
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, redisUtil);
+        return new JwtAuthorizationFilter(jwtUtil, userPrincipalCache, revokedTokenRegistry);
     }
 
     @Bean
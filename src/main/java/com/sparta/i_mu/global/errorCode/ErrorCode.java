@@ -24,6 +24,8 @@ public enum ErrorCode {
     REFRESH_TOKEN_MISMATCH(40013, HttpStatus.CONFLICT, "Redis에 저장된 REFRESH TOKEN과 동일하지 않습니다."),
     USER_UNAUTHORIZED(40014, HttpStatus.UNAUTHORIZED, "로그인 후 사용이 가능합니다."),
     KAKAO_UNLINK_FAILED(40015, HttpStatus.BAD_REQUEST, "카카오 연결 해제에 실패했습니다."),
+    CURSOR_INVALID(40016, HttpStatus.BAD_REQUEST, "유효한 커서가 아닙니다."),
+    CURSOR_SIZE_INVALID(40017, HttpStatus.BAD_REQUEST, "페이지 크기는 1 이상 100 이하만 가능합니다."),
     DATABASE_PROCESSING_ERROR(5001, HttpStatus.INTERNAL_SERVER_ERROR, "데이터를 deleted 처리하는 과정에서 오류가 발생했습니다.");
 
     private final int errorCode;
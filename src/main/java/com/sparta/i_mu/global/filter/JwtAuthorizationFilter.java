@@ -3,10 +3,10 @@ package com.sparta.i_mu.global.filter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.i_mu.global.errorCode.ErrorCode;
 import com.sparta.i_mu.global.responseResource.ResponseResource;
+import com.sparta.i_mu.global.util.JwtParseResult;
 import com.sparta.i_mu.global.util.JwtUtil;
-import com.sparta.i_mu.global.util.RedisUtil;
-import com.sparta.i_mu.global.security.UserDetailsServiceImpl;
-import io.jsonwebtoken.Claims;
+import com.sparta.i_mu.global.security.RevokedTokenRegistry;
+import com.sparta.i_mu.global.security.UserPrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,8 +32,8 @@ import java.util.Set;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsServiceImpl userDetailsService;
-    private final RedisUtil redisUtil;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
 
     @Bean
     public RequestMappingHandlerMapping requestMappingHandlerMapping() {
@@ -53,31 +53,26 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         String accessToken = jwtUtil.getAccessTokenFromRequest(request);
         if (StringUtils.hasText(accessToken)) { // accessToken이 없을때
             try {
-                // 토큰 확인
-                log.info("토큰 검증 AccessToken: {}" , accessToken);
-                if (!jwtUtil.validateAccessToken(accessToken)) {
+                // 토큰 확인 - 검증과 claims 추출을 한 번의 파싱으로 처리
+                JwtParseResult parseResult = jwtUtil.parse(accessToken);
+                if (!parseResult.isValid()) {
                     log.warn("AccessToken 토큰 검증 실패 -> RefreshToken 요청");
                     sendErrorResponse(response, ErrorCode.TOKEN_INVALID);
                     return;
                 }
 
                 // 블랙리스트 확인
-                String email = jwtUtil.getUserInfoFromToken(accessToken).getSubject();
-                log.info("email : {} ", email);
+                String email = parseResult.getClaims().getSubject();
+                log.debug("email : {} ", email);
 
-                String blacklistedValue = redisUtil.isBlacklisted(email);
-                log.info("BlackToken : {}", blacklistedValue);
-
-                if (blacklistedValue != null && blacklistedValue.equals(jwtUtil.BEARER + accessToken)) {
+                // 로컬 블랙 리스트로 확인 - Bloom filter 에 걸린 경우에만 Redis 조회
+                if (revokedTokenRegistry.isRevoked(email, accessToken)) {
                     log.warn("BLACK LIST에 존재하는 회원입니다.");
                     sendErrorResponse(response, ErrorCode.BLACKLISTED);
                     return;
                 }
 
-                Claims user = jwtUtil.getUserInfoFromToken(accessToken);
-                String userEmail = user.getSubject();
-                log.info("현재 유저 :{}", userEmail);
-                setAuthentication(userEmail);
+                setAuthentication(email);
                 //7일간격으로 refreshToken을 자동으로 재발급
 //                authService.refreshTokenRegularly(accessToken, response);
 
@@ -112,9 +107,9 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         context.setAuthentication(authentication);
         SecurityContextHolder.setContext(context);
     }
-    //인증 객체 생성
+    //인증 객체 생성 - 사용자 정보는 캐시에서 조회
     private Authentication createAuthentication(String email) {
-        UserDetails jwtUserDetails = userDetailsService.loadUserByUsername(email);
+        UserDetails jwtUserDetails = userPrincipalCache.get(email);
         return new UsernamePasswordAuthenticationToken(jwtUserDetails, null, jwtUserDetails.getAuthorities());
     }
 }
\ No newline at end of file
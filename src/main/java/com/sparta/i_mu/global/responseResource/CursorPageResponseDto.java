@@ -0,0 +1,34 @@
+package com.sparta.i_mu.global.responseResource;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답
+ * 다음 페이지는 nextCursor 를 그대로 cursor 파라미터로 넘겨서 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    /**
+     * size + 1 개를 조회한 결과로 응답 생성
+     *
+     * @param rows     size + 1 개까지 조회한 결과
+     * @param size     요청한 페이지 크기 - 조회 전에 서비스에서 CursorUtil.validateSize 로 검증한다.
+     * @param cursorOf 마지막 행으로 다음 커서를 만드는 함수
+     * @param mapper   응답 dto 로 변환하는 함수
+     */
+    public static <E, T> CursorPageResponseDto<T> of(List<E> rows, int size, Function<E, String> cursorOf, Function<List<E>, List<T>> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPageResponseDto<>(mapper.apply(page), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,63 @@
+package com.sparta.i_mu.global.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 Bloom filter - 없다고 판단하면 확실히 없고, 있다고 판단하면 오탐일 수 있다.
+ * 비트 배열을 AtomicLongArray 로 두어 여러 스레드에서 잠금 없이 추가/조회한다.
+ */
+class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    /**
+     * @param bitSize   비트 수 (64 의 배수로 올림)
+     * @param hashCount 원소당 설정할 비트 수
+     */
+    BloomFilter(int bitSize, int hashCount) {
+        this.bits = new AtomicLongArray((bitSize + 63) / 64);
+        this.bitSize = this.bits.length() * 64;
+        this.hashCount = hashCount;
+    }
+
+    void add(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash, i);
+            long mask = 1L << (index & 63);
+            bits.accumulateAndGet(index >>> 6, mask, (current, bit) -> current | bit);
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash, i);
+            if ((bits.get(index >>> 6) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // double hashing - 64bit 해시의 상위/하위 32bit 로 hashCount 개의 위치를 만든다.
+    private int index(long hash, int i) {
+        int combined = (int) hash + i * (int) (hash >>> 32);
+        return (combined & Integer.MAX_VALUE) % bitSize;
+    }
+
+    // FNV-1a 64bit + 마무리 섞기
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,177 @@
+package com.sparta.i_mu.global.security;
+
+import com.sparta.i_mu.global.util.JwtUtil;
+import com.sparta.i_mu.global.util.RedisUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃된 accessToken(블랙 리스트) 로컬 사본
+ * 요청마다 Redis 를 조회하지 않도록 Bloom filter + 토큰별 만료 시각을 메모리에 두고,
+ * Bloom filter 에 걸린 토큰만 로컬 목록 -> Redis 순서로 확인한다.
+ * 다른 인스턴스의 로그아웃은 Redis pub/sub 으로 받고, 놓친 알림은 주기적인 Redis 동기화로 보정한다.
+ */
+@Slf4j
+@Component
+public class RevokedTokenRegistry implements MessageListener {
+
+    // Bloom filter 는 삭제가 안 되므로 accessToken 유효 시간마다 세대를 교체한다. (현재 + 이전 세대를 함께 확인)
+    private static final long GENERATION_MILLIS = 2 * 60 * 60 * 1000L;
+    private static final int BLOOM_BITS = 1 << 20;
+    private static final int BLOOM_HASHES = 5;
+
+    private final RedisUtil redisUtil;
+    private final JwtUtil jwtUtil;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 토큰(Bearer 제외) -> 만료 시각
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private volatile BloomFilter current = newBloomFilter();
+    private volatile BloomFilter previous = newBloomFilter();
+    private volatile long rotatedAt;
+    private final Clock clock;
+
+    private final Counter negativeCounter;
+    private final Counter localHitCounter;
+    private final Counter redisFallbackCounter;
+
+    @Autowired
+    public RevokedTokenRegistry(RedisUtil redisUtil, JwtUtil jwtUtil,
+                                RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry) {
+        this(redisUtil, jwtUtil, listenerContainer, meterRegistry, Clock.systemUTC());
+    }
+
+    RevokedTokenRegistry(RedisUtil redisUtil, JwtUtil jwtUtil,
+                         RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        this.rotatedAt = clock.millis();
+        this.redisUtil = redisUtil;
+        this.jwtUtil = jwtUtil;
+        this.listenerContainer = listenerContainer;
+        this.negativeCounter = Counter.builder("auth.revocation.checks").tag("result", "bloom_negative").register(meterRegistry);
+        this.localHitCounter = Counter.builder("auth.revocation.checks").tag("result", "local_hit").register(meterRegistry);
+        this.redisFallbackCounter = Counter.builder("auth.revocation.checks").tag("result", "redis_fallback").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisUtil.TOKEN_REVOKED_CHANNEL));
+    }
+
+    /**
+     * 로그아웃 - Redis 블랙 리스트에 저장하고 다른 인스턴스에 알린다.
+     * @param email
+     * @param accessToken Bearer 를 포함한 accessToken
+     * @param expirationInSeconds 남은 만료 시간(초)
+     */
+    public void revoke(String email, String accessToken, Long expirationInSeconds) {
+        redisUtil.storeBlacklist(email, accessToken, expirationInSeconds);
+        String token = stripBearer(accessToken);
+        long expiresAt = clock.millis() + expirationInSeconds * 1000;
+        add(token, expiresAt);
+        redisUtil.publish(RedisUtil.TOKEN_REVOKED_CHANNEL, expiresAt + ":" + token);
+    }
+
+    /**
+     * @param email 토큰의 subject
+     * @param token Bearer 가 제거된 accessToken
+     * @return 로그아웃된 토큰 여부
+     */
+    public boolean isRevoked(String email, String token) {
+        if (!current.mightContain(token) && !previous.mightContain(token)) {
+            negativeCounter.increment();
+            return false;
+        }
+        Long expiresAt = revokedTokens.get(token);
+        if (expiresAt != null && expiresAt > clock.millis()) {
+            localHitCounter.increment();
+            return true;
+        }
+        // Bloom filter 오탐 또는 로컬 목록에서 이미 정리된 토큰
+        redisFallbackCounter.increment();
+        String blacklistedValue = redisUtil.isBlacklisted(email);
+        return blacklistedValue != null && blacklistedValue.equals(jwtUtil.BEARER + token);
+    }
+
+    // 다른 인스턴스의 로그아웃 알림 - "만료 시각:토큰"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("잘못된 로그아웃 알림 : {}", body);
+            return;
+        }
+        try {
+            add(body.substring(separator + 1), Long.parseLong(body.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 로그아웃 알림 : {}", body);
+        }
+    }
+
+    /**
+     * 시작 시 + 주기적으로 Redis 블랙 리스트 전체를 반영 - pub/sub 으로 놓친 알림 보정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 5 * 60 * 1000, fixedDelay = 5 * 60 * 1000)
+    public void sync() {
+        try {
+            long now = clock.millis();
+            Map<String, Long> blacklist = redisUtil.getBlacklist();
+            blacklist.forEach((accessToken, ttl) -> add(stripBearer(accessToken), now + ttl * 1000));
+            log.debug("로컬 블랙 리스트 동기화 완료 - 토큰 수 : {}", blacklist.size());
+        } catch (Exception e) {
+            log.error("로컬 블랙 리스트 동기화 중 오류 발생 : ", e);
+        }
+    }
+
+    /**
+     * 만료된 토큰 정리, accessToken 유효 시간이 지나면 Bloom filter 세대 교체
+     * 교체 직후 남아 있는 토큰은 새 세대에 다시 추가한다.
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000)
+    public void cleanup() {
+        long now = clock.millis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        if (now - rotatedAt < GENERATION_MILLIS) {
+            return;
+        }
+        BloomFilter next = newBloomFilter();
+        revokedTokens.keySet().forEach(next::add);
+        previous = current;
+        current = next;
+        rotatedAt = now;
+    }
+
+    private void add(String token, long expiresAt) {
+        if (expiresAt <= clock.millis()) {
+            return;
+        }
+        revokedTokens.merge(token, expiresAt, Math::max);
+        current.add(token);
+    }
+
+    private String stripBearer(String accessToken) {
+        return accessToken.startsWith(jwtUtil.BEARER) ? accessToken.substring(jwtUtil.BEARER.length()) : accessToken;
+    }
+
+    private static BloomFilter newBloomFilter() {
+        return new BloomFilter(BLOOM_BITS, BLOOM_HASHES);
+    }
+}
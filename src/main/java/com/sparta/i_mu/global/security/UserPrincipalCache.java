@@ -0,0 +1,111 @@
+package com.sparta.i_mu.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.i_mu.domain.user.entity.User;
+import com.sparta.i_mu.global.util.TransactionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인증된 사용자 캐시 - JWT 인가 필터에서 요청마다 DB 를 조회하지 않도록
+ * email 을 키로 TTL 동안 보관하고, 프로필/비밀번호 수정, 로그아웃, 회원 탈퇴 시 무효화한다.
+ * 엔티티 대신 변경할 수 없는 사용자 정보를 보관하고, 요청마다 새 User 로 UserDetailsImpl 을 만들어서
+ * 같은 사용자의 동시 요청이 하나의 User 인스턴스를 공유하지 않는다.
+ * 인스턴스별 메모리 캐시이므로 다른 인스턴스에는 최대 TTL 만큼 늦게 반영된다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final Duration TTL = Duration.ofSeconds(60);
+    private static final int MAX_SIZE = 10_000;
+
+    private final UserDetailsServiceImpl userDetailsService;
+
+    private final Cache<String, Snapshot> principals = Caffeine.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserPrincipalCache(UserDetailsServiceImpl userDetailsService, MeterRegistry meterRegistry) {
+        this.userDetailsService = userDetailsService;
+        this.hitCounter = Counter.builder("auth.principal.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("auth.principal.cache.requests").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * @param email 토큰의 subject
+     * @return 인증된 사용자, 캐시에 없으면 DB 에서 조회 후 저장
+     */
+    public UserDetailsImpl get(String email) {
+        Snapshot snapshot = principals.getIfPresent(email);
+        if (snapshot != null) {
+            hitCounter.increment();
+            return snapshot.toUserDetails();
+        }
+        missCounter.increment();
+        UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(email);
+        principals.put(email, new Snapshot(userDetails.getUser()));
+        return userDetails;
+    }
+
+    /**
+     * 사용자 정보 변경 시 무효화 - 트랜잭션 안이라면 커밋 이후에 한 번 더 무효화해서
+     * 커밋 전에 다시 캐시된 이전 정보가 남지 않도록 한다.
+     * @param email
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        principals.invalidate(email);
+        TransactionUtil.afterCommit(() -> principals.invalidate(email));
+    }
+
+    /**
+     * 캐시 저장 형식 - 조회 시점의 사용자 정보
+     */
+    private static final class Snapshot {
+        private final Long id;
+        private final String email;
+        private final String password;
+        private final String nickname;
+        private final String phoneNumber;
+        private final String introduce;
+        private final String userImage;
+        private final Long kakaoId;
+        private final Boolean deleted;
+
+        private Snapshot(User user) {
+            this.id = user.getId();
+            this.email = user.getEmail();
+            this.password = user.getPassword();
+            this.nickname = user.getNickname();
+            this.phoneNumber = user.getPhoneNumber();
+            this.introduce = user.getIntroduce();
+            this.userImage = user.getUserImage();
+            this.kakaoId = user.getKakaoId();
+            this.deleted = user.getDeleted();
+        }
+
+        private UserDetailsImpl toUserDetails() {
+            return new UserDetailsImpl(User.builder()
+                    .id(id)
+                    .email(email)
+                    .password(password)
+                    .nickname(nickname)
+                    .phoneNumber(phoneNumber)
+                    .introduce(introduce)
+                    .userImage(userImage)
+                    .kakaoId(kakaoId)
+                    .deleted(deleted)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.sparta.i_mu.global.util;
+
+import com.sparta.i_mu.global.errorCode.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 기반 페이지네이션에서 사용하는 커서 인코딩 유틸
+ * 마지막으로 받은 행의 (createdAt, id) 를 클라이언트가 해석할 수 없는 문자열로 주고받는다.
+ */
+public final class CursorUtil {
+
+    private static final String DELIMITER = "_";
+    public static final int MAX_SIZE = 100;
+
+    private CursorUtil() {
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     * @return 디코딩된 커서, 첫 페이지는 null
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), Long.valueOf(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(ErrorCode.CURSOR_INVALID.getMessage());
+        }
+    }
+
+    /**
+     * 페이지 크기 검증 - 1 ~ MAX_SIZE
+     *
+     * @param size 요청한 페이지 크기
+     * @return size
+     */
+    public static int validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException(ErrorCode.CURSOR_SIZE_INVALID.getMessage());
+        }
+        return size;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Cursor {
+        private final LocalDateTime createdAt;
+        private final Long id;
+    }
+}
@@ -0,0 +1,49 @@
+package com.sparta.i_mu.global.util;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색 조건 유틸
+ * 검색어를 하나의 구문("...")으로 검색해서 ngram 토큰이 연속으로 일치하는 행만 찾는다.
+ * ngram 토큰보다 짧은 검색어는 FULLTEXT 인덱스로 찾을 수 없으므로 LIKE 로 검색한다.
+ * 인덱스는 불용어 없이 만들어야 "in", "at" 등이 포함된 토큰도 LIKE 와 같이 부분 일치한다. (FullTextIndexInitializer 참고)
+ */
+public final class FullTextSearch {
+
+    private static final int NGRAM_TOKEN_SIZE = 2; // MySQL ngram_token_size 기본값
+
+    private FullTextSearch() {
+    }
+
+    public static boolean isFullTextSearchable(String keyword) {
+        return keyword.strip().length() >= NGRAM_TOKEN_SIZE;
+    }
+
+    /**
+     * 검색 조건 - FULLTEXT 로 찾을 수 있는 검색어는 MATCH AGAINST, 아니면 LIKE
+     * @param column
+     * @param keyword
+     * @return 검색 조건
+     */
+    public static BooleanExpression matches(StringPath column, String keyword) {
+        if (!isFullTextSearchable(keyword)) {
+            return column.contains(keyword);
+        }
+        return relevance(column, keyword).gt(0);
+    }
+
+    /**
+     * 검색어와의 관련도 점수 (MATCH ... AGAINST)
+     */
+    public static NumberExpression<Double> relevance(StringPath column, String keyword) {
+        return Expressions.numberTemplate(Double.class, "function('match_against', {0}, {1})", column, toPhrase(keyword));
+    }
+
+    // boolean mode 연산자로 해석되지 않도록 큰따옴표를 제거하고 구문으로 감싼다.
+    private static String toPhrase(String keyword) {
+        return "\"" + keyword.replace("\"", " ").strip() + "\"";
+    }
+}
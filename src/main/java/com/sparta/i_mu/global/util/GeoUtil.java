@@ -0,0 +1,181 @@
+package com.sparta.i_mu.global.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 위치 기반 조회에서 사용하는 좌표 계산 유틸
+ */
+public final class GeoUtil {
+
+    private static final double EARTH_RADIUS_IN_METERS = 6370986.0; // MySQL ST_Distance_Sphere 기본 반지름
+    // 같은 구 기준 위도 1도의 길이 - 반지름이 다르면 사각 범위가 반경보다 작아져 경계의 게시글이 빠진다.
+    private static final double METERS_PER_DEGREE_LATITUDE = Math.toRadians(1) * EARTH_RADIUS_IN_METERS;
+    private static final String GEOHASH_BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    private GeoUtil() {
+    }
+
+    /**
+     * 중심 좌표로부터 반경(m)을 모두 포함하는 위도/경도 사각 범위
+     * latitude, longitude 인덱스로 후보를 먼저 거른 뒤 ST_Distance_Sphere 로 정확한 거리를 계산하기 위해 사용
+     *
+     * @param longitude 중심 경도
+     * @param latitude  중심 위도
+     * @param distanceInMeters 반경
+     * @return 반경을 포함하는 사각 범위
+     */
+    public static BoundingBox boundingBox(double longitude, double latitude, double distanceInMeters) {
+        double latitudeDelta = distanceInMeters / METERS_PER_DEGREE_LATITUDE;
+        double minLatitude = Math.max(-90.0, latitude - latitudeDelta);
+        double maxLatitude = Math.min(90.0, latitude + latitudeDelta);
+
+        // 극점 근처에서는 경도 범위가 의미가 없으므로 전체 경도를 사용
+        double cos = Math.cos(Math.toRadians(Math.max(Math.abs(minLatitude), Math.abs(maxLatitude))));
+        if (cos <= 0.0 || minLatitude <= -90.0 || maxLatitude >= 90.0) {
+            return new BoundingBox(minLatitude, maxLatitude, -180.0, 180.0);
+        }
+        double longitudeDelta = distanceInMeters / (METERS_PER_DEGREE_LATITUDE * cos);
+        return new BoundingBox(minLatitude, maxLatitude,
+                Math.max(-180.0, longitude - longitudeDelta),
+                Math.min(180.0, longitude + longitudeDelta));
+    }
+
+    /**
+     * 두 좌표 사이의 구면 거리(m) - ST_Distance_Sphere 와 같은 방식(haversine)
+     */
+    public static double distanceInMeters(double longitude1, double latitude1, double longitude2, double latitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLon = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_IN_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * 좌표를 geohash 문자열로 변환
+     *
+     * @param longitude
+     * @param latitude
+     * @param precision geohash 길이
+     * @return geohash
+     */
+    public static String geohash(double longitude, double latitude, int precision) {
+        double minLatitude = -90.0, maxLatitude = 90.0;
+        double minLongitude = -180.0, maxLongitude = 180.0;
+        StringBuilder geohash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int index = 0;
+
+        while (geohash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLongitude + maxLongitude) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLongitude = mid;
+                } else {
+                    index = index << 1;
+                    maxLongitude = mid;
+                }
+            } else {
+                double mid = (minLatitude + maxLatitude) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLatitude = mid;
+                } else {
+                    index = index << 1;
+                    maxLatitude = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                geohash.append(GEOHASH_BASE32.charAt(index));
+                bit = 0;
+                index = 0;
+            }
+        }
+        return geohash.toString();
+    }
+
+    /**
+     * geohash 셀의 위도/경도 범위
+     */
+    public static BoundingBox geohashBounds(String geohash) {
+        double minLatitude = -90.0, maxLatitude = 90.0;
+        double minLongitude = -180.0, maxLongitude = 180.0;
+        boolean evenBit = true;
+
+        for (char c : geohash.toCharArray()) {
+            int index = GEOHASH_BASE32.indexOf(c);
+            if (index < 0) {
+                throw new IllegalArgumentException("잘못된 geohash 입니다. geohash: " + geohash);
+            }
+            for (int mask = 16; mask > 0; mask >>= 1) {
+                boolean bitSet = (index & mask) != 0;
+                if (evenBit) {
+                    double mid = (minLongitude + maxLongitude) / 2;
+                    if (bitSet) {
+                        minLongitude = mid;
+                    } else {
+                        maxLongitude = mid;
+                    }
+                } else {
+                    double mid = (minLatitude + maxLatitude) / 2;
+                    if (bitSet) {
+                        minLatitude = mid;
+                    } else {
+                        maxLatitude = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new BoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    /**
+     * 사각 범위와 겹치는 geohash 셀 목록
+     * 셀 크기 간격으로 범위를 훑기 때문에 범위와 겹치는 셀은 모두 포함된다.
+     *
+     * @param box
+     * @param precision
+     * @return 범위를 덮는 geohash 셀
+     */
+    public static Set<String> geohashesCovering(BoundingBox box, int precision) {
+        int longitudeBits = (precision * 5 + 1) / 2;
+        int latitudeBits = (precision * 5) / 2;
+        double cellHeight = 180.0 / (1L << latitudeBits);
+        double cellWidth = 360.0 / (1L << longitudeBits);
+
+        Set<String> geohashes = new LinkedHashSet<>();
+        for (double latitude = box.getMinLatitude(); ; latitude += cellHeight) {
+            double lat = Math.min(latitude, box.getMaxLatitude());
+            for (double longitude = box.getMinLongitude(); ; longitude += cellWidth) {
+                double lon = Math.min(longitude, box.getMaxLongitude());
+                geohashes.add(geohash(lon, lat, precision));
+                if (lon >= box.getMaxLongitude()) {
+                    break;
+                }
+            }
+            if (lat >= box.getMaxLatitude()) {
+                break;
+            }
+        }
+        return geohashes;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class BoundingBox {
+        private final double minLatitude;
+        private final double maxLatitude;
+        private final double minLongitude;
+        private final double maxLongitude;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sparta.i_mu.global.util;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWT 파싱 결과 - 검증 상태와 claims
+ * 만료된 토큰도 claims 를 함께 돌려줘서 다시 파싱하지 않아도 subject 를 확인할 수 있다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtParseResult {
+
+    public enum Status {
+        VALID, EXPIRED, INVALID
+    }
+
+    private static final JwtParseResult INVALID = new JwtParseResult(Status.INVALID, null);
+
+    private final Status status;
+    private final Claims claims; // INVALID 이면 null
+
+    static JwtParseResult valid(Claims claims) {
+        return new JwtParseResult(Status.VALID, claims);
+    }
+
+    static JwtParseResult expired(Claims claims) {
+        return new JwtParseResult(Status.EXPIRED, claims);
+    }
+
+    static JwtParseResult invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public boolean isExpired() {
+        return status == Status.EXPIRED;
+    }
+}
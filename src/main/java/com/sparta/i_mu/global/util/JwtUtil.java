@@ -39,6 +39,8 @@ public class JwtUtil {
 
     public static final Logger logger = LoggerFactory.getLogger("JWT 관련 로그");
     private Key key;
+    // 불변이고 thread-safe 하므로 한 번만 만들어서 재사용
+    private JwtParser jwtParser;
     @Value("${jwt.secret.key}") // Base64 Encode 한 SecretKey
     private String secretKey;
 
@@ -46,6 +48,7 @@ public class JwtUtil {
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     /**
@@ -114,29 +117,11 @@ public class JwtUtil {
 
     // 토큰의 만료만 확인하고 싶을때
     public boolean isTokenExpired(String AccessToken) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(AccessToken); // key로 accessToken 검증
-            return false; // 토큰 검증에 문제가 없으면 만료되지 않았다고 판단
-        } catch (ExpiredJwtException e) {
-            log.error("Expired JWT accessToken, 만료된 JWT accessToken 입니다.");
-            return true;  // 토큰이 만료된 경우에만 true 반환
-        }
+        return parse(AccessToken).isExpired(); // 토큰 검증에 문제가 없거나 유효하지 않은 토큰이면 만료되지 않았다고 판단
     }
 
     public boolean validateAccessToken(String AccessToken) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(AccessToken); // key로 accessToken 검증
-            return true;
-        } catch (SecurityException | MalformedJwtException | SignatureException e) {
-            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
-        } catch (ExpiredJwtException e) {
-            log.error("Expired JWT accessToken, 만료된 JWT accessToken 입니다.");
-        } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT accessToken, 지원되지 않는 JWT 토큰 입니다.");
-        } catch (IllegalArgumentException e) {
-            log.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
-        }
-        return false;
+        return parse(AccessToken).isValid();
     }
 
     /**
@@ -146,22 +131,42 @@ public class JwtUtil {
      * @return 토큰 검증 여부
      */
     public boolean validateRefreshToken(String refreshToken) {
+        return parse(refreshToken).isValid();
+    }
+
+    /**
+     * 유효한 토큰의 claims, 유효하지 않으면 원인에 맞는 JwtException 을 던진다.
+     */
+    public Claims getUserInfoFromToken(String token) {
+        JwtParseResult result = parse(token);
+        if (result.isValid()) {
+            return result.getClaims();
+        }
+        return jwtParser.parseClaimsJws(token).getBody(); //body부분의 claims를 가지고 올 수 잇음
+    }
+
+    /**
+     * 토큰 검증과 claims 추출을 한 번의 파싱으로 처리
+     *
+     * @param token Bearer 가 제거된 토큰
+     * @return 검증 상태(VALID / EXPIRED / INVALID)와 claims
+     */
+    public JwtParseResult parse(String token) {
+        if (!StringUtils.hasText(token)) {
+            return JwtParseResult.invalid();
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(refreshToken); // key로 accessToken 검증
-            return true;
+            return JwtParseResult.valid(jwtParser.parseClaimsJws(token).getBody()); // key로 token 검증
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
-            log.error("Expired JWT refreshToken, 만료된 JWT refreshToken 입니다.");
+            log.error("Expired JWT token, 만료된 JWT 토큰 입니다.");
+            return JwtParseResult.expired(e.getClaims());
         } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT refreshToken, 지원되지 않는 JWT 토큰 입니다.");
+            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
         } catch (IllegalArgumentException e) {
             log.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
         }
-        return false;
-    }
-
-    public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody(); //body부분의 claims를 가지고 올 수 잇음
+        return JwtParseResult.invalid();
     }
 }
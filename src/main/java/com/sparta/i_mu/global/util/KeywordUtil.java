@@ -0,0 +1,28 @@
+package com.sparta.i_mu.global.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 검색어 정규화 유틸
+ * 대소문자, 유니코드 정규화 형태(NFC/NFD 한글), 앞뒤/연속 공백 차이를 같은 검색어로 취급하기 위해 사용한다.
+ */
+public final class KeywordUtil {
+
+    private KeywordUtil() {
+    }
+
+    /**
+     * @param keyword
+     * @return 정규화된 검색어, null 은 빈 문자열
+     */
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        return Normalizer.normalize(keyword, Normalizer.Form.NFC)
+                .strip()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,14 +2,28 @@ package com.sparta.i_mu.global.util;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.*;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 
 @Slf4j
@@ -18,16 +32,101 @@ import java.util.concurrent.TimeUnit;
 public class RedisUtil {
     private final String REFRESH_TOKEN_KEY = "REFRESH_TOKEN_";
     private final String SEARCH_SONG_KEY = "SEARCH_SONG_";
-    private final String SEARCH_KEYWORD_KEY = "SEARCH_KEYWORD_";
+    private final String SEARCH_KEYWORD_BUCKET_KEY = "SEARCH_KEYWORD_BUCKET_";
+    private final String SEARCH_KEYWORD_TRENDING_KEY = "SEARCH_KEYWORD_TRENDING_";
     private final String BLACKLIST_KEY= "BLACKLIST_KEY_";
     private final String AUTH_NUM = "AUTH_NUM_";
+    private final String POST_VIEWERS_KEY = "POST_VIEWERS_";
+    private final String SUGGESTION_SNAPSHOT_KEY = "SUGGESTION_SNAPSHOT_";
+    public static final String TOP_POST_WISHLIST_KEY = "TOP_POST_WISHLIST_";
+    public static final String TOP_POST_VIEW_KEY = "TOP_POST_VIEW_";
+    public static final String TOP_PLACE_KEY = "TOP_PLACE_";
+    public static final String TOKEN_REVOKED_CHANNEL = "TOKEN_REVOKED";
     private final RedisTemplate<String, String> redisTemplate;
 
+    // 검색어 횟수 증가 - 키에 만료 시간이 없을 때(새로 만들어졌을 때)만 만료 시간을 설정
+    private static final RedisScript<Long> INCREMENT_KEYWORD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZINCRBY', KEYS[1], 1, ARGV[1]) " +
+            "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 1", Long.class);
+
+    // 인기 검색어 합산 - KEYS[1] 인기 검색어, KEYS[2] 임시 키, KEYS[3..] 버킷 / ARGV[1] 유지할 개수, ARGV[2..] 버킷별 가중치
+    private static final RedisScript<Long> MERGE_KEYWORD_SCRIPT = new DefaultRedisScript<>(
+            "local args = {KEYS[2], #KEYS - 2} " +
+            "for i = 3, #KEYS do args[#args + 1] = KEYS[i] end " +
+            "args[#args + 1] = 'WEIGHTS' " +
+            "for i = 2, #ARGV do args[#args + 1] = ARGV[i] end " +
+            "local count = redis.call('ZUNIONSTORE', unpack(args)) " +
+            "if count == 0 then redis.call('DEL', KEYS[1]) return 0 end " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[1]) + 1)) " +
+            "redis.call('RENAME', KEYS[2], KEYS[1]) " +
+            "return count", Long.class);
+
+    // 조회 기록 - 처음 추가된 경우에만 만료 시간을 설정하고 추가 여부(1/0)를 반환
+    private static final RedisScript<Long> ADD_VIEWER_SCRIPT = new DefaultRedisScript<>(
+            "local added = redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "if added == 1 then redis.call('EXPIRE', KEYS[1], ARGV[2]) end " +
+            "return added", Long.class);
+
+    // 장소 게시글 수 증감 - KEYS[1] 전체, KEYS[2] 지역(만료 시간 설정), 0 이하가 되면 제거
+    private static final RedisScript<Long> INCREMENT_PLACE_SCRIPT = new DefaultRedisScript<>(
+            "for i, key in ipairs(KEYS) do " +
+            "  local score = tonumber(redis.call('ZINCRBY', key, ARGV[2], ARGV[1])) " +
+            "  if score <= 0 then redis.call('ZREM', key, ARGV[1]) end " +
+            "  if i > 1 and redis.call('TTL', key) == -1 then redis.call('EXPIRE', key, ARGV[3]) end " +
+            "end " +
+            "return 1", Long.class);
+
+
+    /**
+     * 여러 명령을 한 번의 왕복으로 전송 (pipeline)
+     * 콜백 안에서는 명령의 결과를 바로 받을 수 없고, 명령 순서대로 반환 값 리스트로 받는다.
+     * @param commands 실행할 명령
+     * @return 명령별 결과
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object> executePipelined(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 여러 명령을 MULTI / EXEC 로 묶어서 원자적으로 실행
+     * @param commands 실행할 명령
+     * @return 명령별 결과
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object> executeInTransaction(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                stringOperations.multi();
+                commands.accept(stringOperations);
+                return stringOperations.exec();
+            }
+        });
+    }
+
 
     //refreshToken 관련 메서드
     public void storeRefreshToken(String accessToken, String refreshToken) {
-        redisTemplate.opsForValue().set(REFRESH_TOKEN_KEY + accessToken, refreshToken);
-        redisTemplate.expire(REFRESH_TOKEN_KEY + accessToken, 14, TimeUnit.DAYS);
+        redisTemplate.opsForValue().set(REFRESH_TOKEN_KEY + accessToken, refreshToken, 14, TimeUnit.DAYS);
+    }
+
+    /**
+     * accessToken 재발급 시 이전 accessToken 의 refreshToken 을 지우고 새 accessToken 으로 저장 (한 번의 왕복)
+     */
+    public void replaceRefreshToken(String oldAccessToken, String newAccessToken, String refreshToken) {
+        executePipelined(operations -> {
+            operations.delete(REFRESH_TOKEN_KEY + oldAccessToken);
+            operations.opsForValue().set(REFRESH_TOKEN_KEY + newAccessToken, refreshToken, 14, TimeUnit.DAYS);
+        });
     }
 
     public String getRefreshToken(String accessToken) {
@@ -47,8 +146,7 @@ public class RedisUtil {
      * @param serializedSongs
      */
     public void storeSearchedSong(String keyword, String serializedSongs) {
-        redisTemplate.opsForValue().set(SEARCH_SONG_KEY + keyword, serializedSongs);
-        redisTemplate.expire(SEARCH_SONG_KEY + keyword, 12, TimeUnit.HOURS );
+        redisTemplate.opsForValue().set(SEARCH_SONG_KEY + keyword, serializedSongs, 12, TimeUnit.HOURS);
     }
 
     public String getSearchedSong(String keyword){
@@ -56,15 +154,67 @@ public class RedisUtil {
     }
 
     /**
-     * 인기검색어 RESET은 하루에 한번
+     * 시간 단위 버킷에 검색어 횟수 증가 (ZINCRBY, O(log n)) - 버킷은 ttlSeconds 후 만료
+     * @param bucket 버킷 이름 (yyyyMMddHH)
      * @param keyword
+     * @param ttlSeconds
+     */
+    public void incrementKeywordBucket(String bucket, String keyword, long ttlSeconds) {
+        redisTemplate.execute(INCREMENT_KEYWORD_SCRIPT, List.of(SEARCH_KEYWORD_BUCKET_KEY + bucket), keyword, String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * 버킷 크기 제한 - 횟수 상위 size 개만 남기고 제거
+     * @param bucket
+     * @param size
+     */
+    public void trimKeywordBucket(String bucket, int size) {
+        redisTemplate.opsForZSet().removeRange(SEARCH_KEYWORD_BUCKET_KEY + bucket, 0, -(size + 1));
+    }
+
+    /**
+     * 버킷들을 가중치를 곱해 합산(ZUNIONSTORE)한 결과로 인기 검색어 교체
+     * 합산, 상위 size 개 유지, RENAME 을 하나의 스크립트로 처리해서 여러 인스턴스가 동시에 갱신해도
+     * 임시 키를 서로 덮어쓰지 않고, 조회 중에는 이전 결과가 보인다.
+     * @param buckets 최신 버킷부터
+     * @param weights 버킷별 가중치 (buckets 와 같은 순서)
+     * @param size 유지할 검색어 수
      */
-    public void storeSearchKeyword(String keyword) {
-        redisTemplate.opsForZSet().incrementScore(SEARCH_KEYWORD_KEY, keyword , 1);
-        redisTemplate.expire("SEARCH_KEYWORD_",1,TimeUnit.DAYS);
+    public void mergeKeywordBuckets(List<String> buckets, List<Double> weights, int size) {
+        List<String> keys = new ArrayList<>();
+        keys.add(SEARCH_KEYWORD_TRENDING_KEY);
+        keys.add(SEARCH_KEYWORD_TRENDING_KEY + "TEMP");
+        buckets.forEach(bucket -> keys.add(SEARCH_KEYWORD_BUCKET_KEY + bucket));
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(size));
+        weights.forEach(weight -> args.add(String.valueOf(weight)));
+        redisTemplate.execute(MERGE_KEYWORD_SCRIPT, keys, args.toArray());
     }
+
+    /**
+     * 인기 검색어 top 10
+     */
     public Set<String> getSearchKeyword() {
-       return redisTemplate.opsForZSet().reverseRange("SEARCH_KEYWORD_", 0,9);
+       return redisTemplate.opsForZSet().reverseRange(SEARCH_KEYWORD_TRENDING_KEY, 0, 9);
+    }
+
+    /**
+     * 인기검색어 점수와 함께 조회 - 자동완성 검색어 점수로 사용
+     * @param count
+     * @return 점수 내림차순 검색어
+     */
+    public Set<ZSetOperations.TypedTuple<String>> getSearchKeywordWithScores(int count) {
+        return redisTemplate.opsForZSet().reverseRangeWithScores(SEARCH_KEYWORD_TRENDING_KEY, 0, count - 1);
+    }
+
+
+    // 자동완성 스냅샷 - 재시작 시 DB 를 다시 읽지 않고 바로 자동완성을 제공하기 위해 사용
+    public void storeSuggestionSnapshot(String serializedSnapshot) {
+        redisTemplate.opsForValue().set(SUGGESTION_SNAPSHOT_KEY, serializedSnapshot, 7, TimeUnit.DAYS);
+    }
+
+    public String getSuggestionSnapshot() {
+        return redisTemplate.opsForValue().get(SUGGESTION_SNAPSHOT_KEY);
     }
 
 
@@ -77,6 +227,42 @@ public class RedisUtil {
     public String isBlacklisted(String email) {
        return redisTemplate.opsForValue().get(BLACKLIST_KEY + email);
     }
+
+    /**
+     * 전체 블랙 리스트 - 다른 인스턴스의 로컬 블랙 리스트 동기화용
+     * @return 블랙 리스트 토큰, 남은 만료 시간(초)
+     */
+    public Map<String, Long> getBlacklist() {
+        List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> found = new ArrayList<>();
+            ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_KEY + "*").count(1000).build();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(key -> found.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return found;
+        });
+        Map<String, Long> blacklist = new HashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return blacklist;
+        }
+        List<Object> results = executePipelined(operations -> keys.forEach(key -> {
+            operations.opsForValue().get(key);
+            operations.getExpire(key, TimeUnit.SECONDS);
+        }));
+        for (int i = 0; i + 1 < results.size(); i += 2) {
+            String accessToken = (String) results.get(i);
+            Long ttl = (Long) results.get(i + 1);
+            if (accessToken != null && ttl != null && ttl > 0) {
+                blacklist.put(accessToken, ttl);
+            }
+        }
+        return blacklist;
+    }
+
+    // 다른 인스턴스에 알림 (pub/sub)
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
   
   
     //이메일 인증 관련
@@ -95,23 +281,148 @@ public class RedisUtil {
     }
 
 
-    public void setPostViewList(String postViewKey, Long postId) {
-        String key = "POST_VIEW_" + postViewKey;
-        String value = String.valueOf(postId);
+    /**
+     * 게시글 조회 기록 - 게시글/날짜 별 SET 에 조회자(userId 또는 IP)를 추가
+     * SADD 결과로 오늘 처음 조회한 것인지를 O(1)로 판단한다.
+     * 키는 당일 자정에 만료된다. 추가와 만료 설정을 Lua 스크립트로 한 번에 처리한다.
+     *
+     * @param postId
+     * @param viewerKey 로그인 유저는 userId, 비로그인 유저는 IP
+     * @return 오늘 처음 조회한 경우 true
+     */
+    public boolean addPostViewer(Long postId, String viewerKey) {
+        String key = POST_VIEWERS_KEY + postId + "_" + LocalDate.now();
 
         long todayEndSecond = LocalDate.now().atTime(LocalTime.MAX).toEpochSecond(ZoneOffset.UTC);
         long currentSecond = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
 
-        log.info("조회수 남은 시간 : {}", todayEndSecond - currentSecond);
+        Long added = redisTemplate.execute(ADD_VIEWER_SCRIPT, List.of(key), viewerKey, String.valueOf(Math.max(1, todayEndSecond - currentSecond)));
+        return added != null && added == 1;
+    }
+
+
+    // 인기 게시글 랭킹(ZSET) 관련 메서드
 
-        redisTemplate.opsForList().rightPushAll(key, value);
-        redisTemplate.expire(key, todayEndSecond - currentSecond, TimeUnit.SECONDS);
+    /**
+     * 랭킹 점수 갱신 후 상위 size 개만 남기고 제거 - 점수가 0 이하이면 랭킹에서 제거 (한 번의 왕복)
+     * @param rankingKey TOP_POST_WISHLIST_KEY, TOP_POST_VIEW_KEY
+     * @param scores postId -> 점수
+     * @param size 유지할 게시글 수
+     */
+    public void setRankingScores(String rankingKey, Map<Long, Integer> scores, int size) {
+        executePipelined(operations -> {
+            scores.forEach((postId, score) -> {
+                if (score <= 0) {
+                    operations.opsForZSet().remove(rankingKey, String.valueOf(postId));
+                } else {
+                    operations.opsForZSet().add(rankingKey, String.valueOf(postId), score);
+                }
+            });
+            operations.opsForZSet().removeRange(rankingKey, 0, -(size + 1));
+        });
     }
 
-    public List<String> getPostViewList(String postViewKey) {
-        String key = "POST_VIEW_" + postViewKey;
-        return redisTemplate.opsForList().range(key, 0, -1);
+    /**
+     * 여러 랭킹에서 게시글 제거 (한 번의 왕복)
+     * @param postId
+     * @param rankingKeys
+     */
+    public void removeRanking(Long postId, String... rankingKeys) {
+        executePipelined(operations -> {
+            for (String rankingKey : rankingKeys) {
+                operations.opsForZSet().remove(rankingKey, String.valueOf(postId));
+            }
+        });
     }
 
-}
+    /**
+     * 랭킹 상위 postId 조회 (ZREVRANGE)
+     * @param rankingKey
+     * @param count
+     * @return 점수 내림차순 postId
+     */
+    public List<Long> getTopRanking(String rankingKey, int count) {
+        Set<String> postIds = redisTemplate.opsForZSet().reverseRange(rankingKey, 0, count - 1);
+        if (postIds == null) {
+            return new ArrayList<>();
+        }
+        return postIds.stream().map(Long::valueOf).collect(Collectors.toList());
+    }
+
+    /**
+     * DB 기준으로 랭킹 전체 교체 - 임시 키에 적재 후 RENAME 으로 한 번에 바꾼다. (MULTI / EXEC)
+     * @param rankingKey
+     * @param scores postId -> 점수
+     */
+    public void replaceRanking(String rankingKey, Map<Long, Integer> scores) {
+        if (scores.isEmpty()) {
+            redisTemplate.delete(rankingKey);
+            return;
+        }
+        String tempKey = rankingKey + "TEMP";
+        Set<ZSetOperations.TypedTuple<String>> tuples = scores.entrySet().stream()
+                .map(entry -> ZSetOperations.TypedTuple.of(String.valueOf(entry.getKey()), entry.getValue().doubleValue()))
+                .collect(Collectors.toSet());
+        executeInTransaction(operations -> {
+            operations.delete(tempKey);
+            operations.opsForZSet().add(tempKey, tuples);
+            operations.rename(tempKey, rankingKey);
+        });
+    }
+
+
+    // 인기 장소 랭킹(ZSET) 관련 메서드 - 전체(TOP_PLACE_) 와 geohash 지역별(TOP_PLACE_{geohash})
 
+    /**
+     * 장소 게시글 수 증감 (전체 + 지역, 한 번의 왕복)
+     * @param placeName
+     * @param geohash 장소가 속한 지역
+     * @param delta 증가 1, 감소 -1
+     * @param regionTtlSeconds 지역 랭킹 만료 시간
+     */
+    public void incrementPlace(String placeName, String geohash, long delta, long regionTtlSeconds) {
+        redisTemplate.execute(INCREMENT_PLACE_SCRIPT, List.of(TOP_PLACE_KEY, TOP_PLACE_KEY + geohash),
+                placeName, String.valueOf(delta), String.valueOf(regionTtlSeconds));
+    }
+
+    /**
+     * @param geohash 지역, 전체는 null
+     * @param count
+     * @return 게시글 수 내림차순 장소 이름
+     */
+    public List<String> getTopPlaces(String geohash, int count) {
+        Set<String> placeNames = redisTemplate.opsForZSet().reverseRange(TOP_PLACE_KEY + (geohash == null ? "" : geohash), 0, count - 1);
+        return placeNames == null ? new ArrayList<>() : new ArrayList<>(placeNames);
+    }
+
+    /**
+     * DB 기준으로 전체/지역 랭킹 교체 - 랭킹마다 임시 키에 적재 후 RENAME (한 번의 pipeline)
+     * 지역 랭킹은 만료 시간을 두어 게시글이 모두 사라진 지역은 자연히 제거되도록 한다.
+     * @param global 장소 이름 -> 게시글 수
+     * @param regions geohash -> (장소 이름 -> 게시글 수)
+     * @param regionTtlSeconds
+     */
+    public void replacePlaceRankings(Map<String, Long> global, Map<String, Map<String, Long>> regions, long regionTtlSeconds) {
+        executePipelined(operations -> {
+            replacePlaceRanking(operations, TOP_PLACE_KEY, global);
+            regions.forEach((geohash, scores) -> {
+                replacePlaceRanking(operations, TOP_PLACE_KEY + geohash, scores);
+                operations.expire(TOP_PLACE_KEY + geohash, regionTtlSeconds, TimeUnit.SECONDS);
+            });
+        });
+    }
+
+    private void replacePlaceRanking(RedisOperations<String, String> operations, String key, Map<String, Long> scores) {
+        if (scores.isEmpty()) {
+            operations.delete(key);
+            return;
+        }
+        String tempKey = key + "_TEMP";
+        Set<ZSetOperations.TypedTuple<String>> tuples = scores.entrySet().stream()
+                .map(entry -> ZSetOperations.TypedTuple.of(entry.getKey(), entry.getValue().doubleValue()))
+                .collect(Collectors.toSet());
+        operations.delete(tempKey);
+        operations.opsForZSet().add(tempKey, tuples);
+        operations.rename(tempKey, key);
+    }
+}
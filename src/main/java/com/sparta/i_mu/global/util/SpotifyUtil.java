@@ -3,58 +3,151 @@ package com.sparta.i_mu.global.util;
 import com.wrapper.spotify.SpotifyApi;
 import com.wrapper.spotify.exceptions.SpotifyWebApiException;
 import com.wrapper.spotify.model_objects.credentials.ClientCredentials;
-import com.wrapper.spotify.requests.authorization.client_credentials.ClientCredentialsRequest;
+import com.wrapper.spotify.requests.data.search.simplified.SearchTracksRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
-@Component
+/**
+ * Spotify 액세스 토큰 관리
+ * - 토큰은 만료 REFRESH_BEFORE 전부터 스케줄러가 미리 새로 발급받아 교체한다.
+ *   유효한 토큰이 있는 동안 조회하는 쪽은 기다리지 않는다.
+ * - 유효한 토큰이 없을 때만 조회하는 쪽에서 발급하며, 동시에 여러 요청이 와도 발급 요청은 하나만 보낸다.
+ * - 발급에 실패하면 실패 횟수에 따라 재시도 간격을 늘린다. (최대 MAX_BACKOFF)
+ * - 공유 SpotifyApi 빈에는 토큰을 저장하지 않고, 요청마다 토큰을 담은 request 를 만든다.
+ */
 @Slf4j
+@Component
+@RequiredArgsConstructor
 public class SpotifyUtil {
 
-    private final String CLIENT_ID;
-    private final String CLIENT_SECRET;
+    private static final long REFRESH_BEFORE_MILLIS = 10 * 60 * 1000L; // 만료 10분 전부터 갱신
+    private static final long EXPIRY_MARGIN_MILLIS = 60 * 1000L; // 만료 직전 토큰은 사용하지 않음
+    private static final long INITIAL_BACKOFF_MILLIS = 1000L;
+    private static final long MAX_BACKOFF_MILLIS = 60 * 1000L;
+
     private final SpotifyApi spotifyApi;
-    private String accessToken;
-    private Instant tokenExpiryTime;
-
-    @Autowired
-    public SpotifyUtil(@Value("${secret.CLIENT_ID}") String clientId, @Value("${secret.CLIENT_SECRET}") String clientSecret) {
-        this.CLIENT_ID = clientId;
-        this.CLIENT_SECRET = clientSecret;
-        spotifyApi = new SpotifyApi.Builder().setClientId(CLIENT_ID).setClientSecret(CLIENT_SECRET).build();
+
+    private volatile Token token;
+    // 진행 중인 발급 요청, 발급 실패 후 재시도 가능 시각 - this 로 동기화
+    private CompletableFuture<Token> refreshing;
+    private long nextAttemptAt;
+    private int failureCount;
+
+    /**
+     * @return 유효한 액세스 토큰
+     * @throws SpotifyWebApiException 발급 실패 또는 재시도 대기 중
+     */
+    public String getAccessToken() throws SpotifyWebApiException {
+        Token current = token;
+        if (current != null && !current.isExpired(System.currentTimeMillis())) {
+            return current.value;
+        }
+        try {
+            return refresh().join().value;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SpotifyWebApiException spotifyException) {
+                throw spotifyException;
+            }
+            throw new SpotifyWebApiException("Spotify 액세스 토큰 발급 실패 : " + e.getCause().getMessage());
+        }
     }
 
-    public String getAccessToken() {
-        if (accessToken == null || isTokenExpired()) { CreateAccessToken(); }
-        return accessToken;
+    /**
+     * 현재 토큰을 담은 노래 검색 request - 공유 클라이언트의 상태를 바꾸지 않는다.
+     * @param keyword
+     * @return 검색 request builder
+     */
+    public SearchTracksRequest.Builder searchTracks(String keyword) throws SpotifyWebApiException {
+        return new SearchTracksRequest.Builder(getAccessToken())
+                .setDefaults(spotifyApi.getHttpManager(), spotifyApi.getScheme(), spotifyApi.getHost(), spotifyApi.getPort())
+                .q(keyword);
     }
 
-    private boolean isTokenExpired() {
-        if (tokenExpiryTime == null) {
-            return true;
+    /**
+     * 만료가 가까워진 토큰을 미리 갱신 - 시작 시에도 바로 발급받는다.
+     */
+    @Scheduled(fixedDelay = 60 * 1000)
+    public void refreshIfNecessary() {
+        Token current = token;
+        if (current != null && !current.needsRefresh(System.currentTimeMillis())) {
+            return;
         }
-        return Instant.now().isAfter(tokenExpiryTime);
+        refresh().exceptionally(e -> null);
     }
 
-    public void CreateAccessToken() {
-        ClientCredentialsRequest clientCredentialsRequest = spotifyApi.clientCredentials().build();
+    /**
+     * 진행 중인 발급이 있으면 그 결과를, 없으면 현재 스레드에서 발급한다.
+     */
+    private CompletableFuture<Token> refresh() {
+        CompletableFuture<Token> call;
+        synchronized (this) {
+            if (refreshing != null) {
+                return refreshing;
+            }
+            if (System.currentTimeMillis() < nextAttemptAt) {
+                return CompletableFuture.failedFuture(new SpotifyWebApiException("Spotify 액세스 토큰 발급 재시도 대기 중입니다."));
+            }
+            call = new CompletableFuture<>();
+            refreshing = call;
+        }
+
         try {
-            final ClientCredentials clientCredentials = clientCredentialsRequest.execute();
+            Token issued = requestToken();
+            token = issued;
+            synchronized (this) {
+                failureCount = 0;
+                nextAttemptAt = 0;
+            }
+            log.info("spotify accessToken 발급 완료");
+            call.complete(issued);
+        } catch (IOException | SpotifyWebApiException | org.apache.hc.core5.http.ParseException | RuntimeException e) {
+            long backoff;
+            int failures;
+            synchronized (this) {
+                failures = ++failureCount;
+                backoff = Math.min(MAX_BACKOFF_MILLIS, INITIAL_BACKOFF_MILLIS << Math.min(failures - 1, 16));
+                nextAttemptAt = System.currentTimeMillis() + backoff;
+            }
+            log.error("spotify accessToken 발급 실패 - {}회 연속, {}ms 후 재시도 : {}", failures, backoff, e.getMessage());
+            call.completeExceptionally(e);
+        } finally {
+            synchronized (this) {
+                refreshing = null;
+            }
+        }
+        return call;
+    }
+
+    private Token requestToken() throws IOException, SpotifyWebApiException, org.apache.hc.core5.http.ParseException {
+        ClientCredentials clientCredentials = spotifyApi.clientCredentials().build().execute();
+        long now = System.currentTimeMillis();
+        long expiresAt = now + clientCredentials.getExpiresIn() * 1000L - EXPIRY_MARGIN_MILLIS; // expiresIn 은 초 단위
+        return new Token(clientCredentials.getAccessToken(), expiresAt - REFRESH_BEFORE_MILLIS, expiresAt);
+    }
 
-            spotifyApi.setAccessToken(clientCredentials.getAccessToken());
-            this.accessToken = spotifyApi.getAccessToken();
-            log.info( "spotify accessToken 발급 : " +  accessToken);
-            int expiresIn = clientCredentials.getExpiresIn(); // expiresIn is in seconds
-            this.tokenExpiryTime = Instant.now().plusSeconds(expiresIn - 300); // subtract 300 seconds to account for possible delays
+    private static class Token {
+        private final String value;
+        private final long refreshAt;
+        private final long expiresAt;
+
+        private Token(String value, long refreshAt, long expiresAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean needsRefresh(long now) {
+            return now >= refreshAt;
+        }
 
-        } catch (IOException | SpotifyWebApiException | org.apache.hc.core5.http.ParseException e) {
-            log.error("Error: " + e.getMessage());
-            this.accessToken = "error";
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
         }
     }
 }
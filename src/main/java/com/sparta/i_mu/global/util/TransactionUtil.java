@@ -0,0 +1,34 @@
+package com.sparta.i_mu.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 유틸
+ * 캐시 무효화, Redis 랭킹 갱신 등은 롤백된 변경을 반영하지 않도록 커밋 이후에 실행한다.
+ * 게시글 변경에 따른 갱신은 PostChangedEvent 를 @TransactionalEventListener 로 받아서 처리하고,
+ * 이벤트가 없는 변경(닉네임, 로그인 사용자 정보 등)에 사용한다.
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 트랜잭션 안이라면 커밋 이후에, 아니면 바로 실행
+     * afterCommit 콜백(@TransactionalEventListener 포함) 안에서 호출하면 실행되지 않으므로 그곳에서는 바로 실행해야 한다.
+     * @param action
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
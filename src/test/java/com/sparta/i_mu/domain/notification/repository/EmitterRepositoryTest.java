@@ -0,0 +1,239 @@
+package com.sparta.i_mu.domain.notification.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmitterRepositoryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private EmitterRepository emitterRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        emitterRepository = new EmitterRepository(meterRegistry, clock);
+    }
+
+    @Test
+    void 같은_유저의_연결_추가와_종료가_겹쳐도_남은_연결이_유실되지_않는다() throws Exception {
+        Long userId = 1L;
+        int connections = 10_000;
+        Set<String> expected = new HashSet<>();
+
+        runConcurrently(connections, i -> {
+            String emitterId = userId + "_" + i;
+            emitterRepository.save(userId, emitterId, new SseEmitter());
+            // 짝수 연결은 바로 종료 - 유저의 map 이 비었다가 다시 만들어지는 상황을 반복
+            if (i % 2 == 0) {
+                emitterRepository.deleteById(userId, emitterId);
+            }
+        });
+        IntStream.range(0, connections).filter(i -> i % 2 == 1).forEach(i -> expected.add(userId + "_" + i));
+
+        assertThat(emitterRepository.findAllByUserId(userId).keySet()).isEqualTo(expected);
+    }
+
+    @Test
+    void 연결_5만개를_유저별로_조회한다() throws Exception {
+        int users = 10_000;
+        int connectionsPerUser = 5;
+
+        runConcurrently(users * connectionsPerUser, i -> {
+            long userId = i % users;
+            emitterRepository.save(userId, userId + "_" + i, new SseEmitter());
+        });
+
+        assertThat(meterRegistry.get("sse.connections").gauge().value()).isEqualTo(users * connectionsPerUser);
+        assertThat(emitterRepository.findAllByUserId(1L)).hasSize(connectionsPerUser);
+        // 1 번 유저의 연결에 12 번 유저의 연결이 섞이지 않는다.
+        assertThat(emitterRepository.findAllByUserId(1L).keySet()).allMatch(id -> id.startsWith("1_"));
+
+        emitterRepository.deleteAllByUserId(1L);
+        assertThat(emitterRepository.findAllByUserId(1L)).isEmpty();
+        assertThat(emitterRepository.findAllByUserId(12L)).hasSize(connectionsPerUser);
+    }
+
+    @Test
+    void 재연결_시_마지막으로_받은_이벤트_이후만_다시_보낸다() {
+        Long userId = 1L;
+        long first = emitterRepository.saveEventCache(userId, "first");
+        long second = emitterRepository.saveEventCache(userId, "second");
+        emitterRepository.saveEventCache(userId, "third");
+
+        List<Map.Entry<Long, Object>> events = emitterRepository.findAllEventCacheAfter(userId, first);
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(events).extracting(Map.Entry::getValue).containsExactly("second", "third");
+    }
+
+    @Test
+    void ring_buffer_가_한_바퀴_돈_뒤에도_Last_Event_ID_이후만_순서대로_다시_보낸다() {
+        Long userId = 1L;
+        List<Long> sequences = new ArrayList<>();
+        // 버퍼 크기(50)의 두 배 넘게 저장 - 0 ~ 69 번은 덮어써지고 70 ~ 119 번만 남는다.
+        for (int i = 0; i < 120; i++) {
+            sequences.add(emitterRepository.saveEventCache(userId, i));
+        }
+
+        List<Map.Entry<Long, Object>> afterRetained = emitterRepository.findAllEventCacheAfter(userId, sequences.get(79));
+        List<Map.Entry<Long, Object>> afterOverwritten = emitterRepository.findAllEventCacheAfter(userId, sequences.get(10));
+
+        assertThat(afterRetained).extracting(Map.Entry::getValue)
+                .containsExactlyElementsOf(IntStream.range(80, 120).boxed().toList());
+        assertThat(afterRetained).extracting(Map.Entry::getKey)
+                .containsExactlyElementsOf(sequences.subList(80, 120));
+        // 이미 덮어써진 이벤트 이후를 요청하면 남아 있는 이벤트를 모두 보낸다.
+        assertThat(afterOverwritten).extracting(Map.Entry::getValue)
+                .containsExactlyElementsOf(IntStream.range(70, 120).boxed().toList());
+        assertThat(replayEvents()).isEqualTo(50);
+    }
+
+    @Test
+    void 보관_기간이_지난_이벤트는_재전송하지_않고_정리된다() {
+        Long userId = 1L;
+        emitterRepository.saveEventCache(userId, "old1");
+        emitterRepository.saveEventCache(userId, "old2");
+        clock.advance(Duration.ofMinutes(20));
+        emitterRepository.saveEventCache(userId, "recent");
+        clock.advance(Duration.ofMinutes(11));
+
+        // 정리 전이라도 30분이 지난 이벤트는 보내지 않는다.
+        assertThat(emitterRepository.findAllEventCacheAfter(userId, 0L))
+                .extracting(Map.Entry::getValue).containsExactly("recent");
+
+        emitterRepository.deleteExpiredEventCache();
+        assertThat(replayEvents()).isEqualTo(1);
+        assertThat(replayUsers()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(20));
+        emitterRepository.deleteExpiredEventCache();
+        assertThat(emitterRepository.findAllEventCacheAfter(userId, 0L)).isEmpty();
+        assertThat(replayEvents()).isZero();
+        assertThat(replayUsers()).isZero();
+    }
+
+    @Test
+    void 전체_이벤트가_상한을_넘으면_마지막_이벤트가_오래된_유저부터_제거한다() {
+        // 유저당 50개씩 2001명 = 100,050개 - 상한(100,000)을 50개 넘는다.
+        int users = 2_001;
+        for (long userId = 0; userId < users; userId++) {
+            for (int i = 0; i < 50; i++) {
+                emitterRepository.saveEventCache(userId, i);
+            }
+            clock.advance(Duration.ofMillis(1));
+        }
+        assertThat(replayEvents()).isEqualTo(100_050);
+
+        emitterRepository.deleteExpiredEventCache();
+
+        assertThat(emitterRepository.findAllEventCacheAfter(0L, 0L)).isEmpty();
+        assertThat(emitterRepository.findAllEventCacheAfter(1L, 0L)).hasSize(50);
+        assertThat(emitterRepository.findAllEventCacheAfter(users - 1L, 0L)).hasSize(50);
+        assertThat(replayEvents()).isEqualTo(100_000);
+        assertThat(replayUsers()).isEqualTo(users - 1);
+    }
+
+    @Test
+    void 유저별_이벤트를_모두_지우면_이벤트_수_gauge_가_0_이_된다() {
+        // 버퍼 크기를 넘겨 저장해도 덮어쓴 이벤트는 다시 세지 않는다.
+        for (long userId = 1; userId <= 3; userId++) {
+            for (int i = 0; i < 60; i++) {
+                emitterRepository.saveEventCache(userId, i);
+            }
+        }
+        assertThat(replayEvents()).isEqualTo(150);
+
+        for (long userId = 1; userId <= 3; userId++) {
+            emitterRepository.deleteAllEventCacheByUserId(userId);
+        }
+        // 없는 유저를 지워도 음수가 되지 않는다.
+        emitterRepository.deleteAllEventCacheByUserId(4L);
+
+        assertThat(replayEvents()).isZero();
+        assertThat(replayUsers()).isZero();
+    }
+
+    private double replayEvents() {
+        return meterRegistry.get("sse.replay.events").gauge().value();
+    }
+
+    private double replayUsers() {
+        return meterRegistry.get("sse.replay.users").gauge().value();
+    }
+
+    private void runConcurrently(int count, IntConsumerTask task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.run(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface IntConsumerTask {
+        void run(int index);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.sparta.i_mu.domain.post.mapper;
+
+import com.sparta.i_mu.domain.category.entity.Category;
+import com.sparta.i_mu.domain.location.entity.Location;
+import com.sparta.i_mu.domain.post.dto.PostResponseDto;
+import com.sparta.i_mu.domain.post.entity.Post;
+import com.sparta.i_mu.domain.post.repository.PostRepository;
+import com.sparta.i_mu.domain.song.entity.Song;
+import com.sparta.i_mu.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PostMapperTest {
+
+    private static final int SONGS_PER_POST = 2;
+
+    @Autowired
+    private PostMapper postMapper;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 게시글_리스트_매핑의_쿼리_수는_페이지_크기와_상관없이_일정하다() {
+        List<Long> postIds = savePosts(20);
+
+        long smallPageQueries = countMappingQueries(postIds.subList(0, 2));
+        long largePageQueries = countMappingQueries(postIds);
+
+        // 노래 IN 조회 1번 + 작성자 IN 배치 조회 1번
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+        assertThat(largePageQueries).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 게시글별_노래가_입력_순서대로_매핑된다() {
+        List<Long> postIds = savePosts(5);
+        entityManager.clear();
+
+        List<Post> posts = postRepository.findAllById(postIds);
+        List<PostResponseDto> result = postMapper.mapToPostResponseDtos(posts);
+
+        assertThat(result).extracting(PostResponseDto::getPostId)
+                .containsExactlyElementsOf(posts.stream().map(Post::getId).toList());
+        assertThat(result).allSatisfy(dto -> assertThat(dto.getSongs()).hasSize(SONGS_PER_POST));
+    }
+
+    // 영속성 컨텍스트를 비우고 게시글만 조회한 뒤, 매핑에서 실행된 쿼리 수를 센다.
+    private long countMappingQueries(List<Long> postIds) {
+        entityManager.clear();
+        List<Post> posts = postRepository.findAllById(postIds);
+
+        statistics.clear();
+        postMapper.mapToPostResponseDtos(posts);
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 게시글마다 다른 작성자, 위치, 노래를 연결해서 저장
+    private List<Long> savePosts(int count) {
+        Category category = Category.builder().name("test-" + UUID.randomUUID()).build();
+        entityManager.persist(category);
+
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String key = UUID.randomUUID().toString();
+            User user = User.builder()
+                    .email(key + "@test.com")
+                    .password("password")
+                    .nickname(key)
+                    .build();
+            Location location = Location.builder()
+                    .latitude(37.5)
+                    .longitude(127.0)
+                    .address("서울")
+                    .placeName("장소" + i)
+                    .build();
+            entityManager.persist(user);
+            entityManager.persist(location);
+
+            Post post = Post.builder()
+                    .postTitle("게시글" + i)
+                    .content("내용")
+                    .category(category)
+                    .location(location)
+                    .user(user)
+                    .deleted(false)
+                    .build();
+            entityManager.persist(post);
+
+            for (int j = 0; j < SONGS_PER_POST; j++) {
+                Song song = Song.builder()
+                        .songNum(key + "-" + j)
+                        .songTitle("노래" + j)
+                        .artistName("가수")
+                        .album("앨범")
+                        .externalUrl("https://open.spotify.com/track/" + key)
+                        .build();
+                entityManager.persist(song);
+                entityManager.persist(post.addPostSongLink(song));
+            }
+            postIds.add(post.getId());
+        }
+        entityManager.flush();
+        return postIds;
+    }
+}
@@ -0,0 +1,83 @@
+package com.sparta.i_mu.domain.post.repository;
+
+import com.sparta.i_mu.domain.category.entity.Category;
+import com.sparta.i_mu.domain.post.entity.Post;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PostRepositoryTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2023, 8, 1, 12, 0);
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 카테고리별_최신_게시글을_한_번의_쿼리로_size_개씩_조회한다() {
+        Category cafe = saveCategory();
+        Category park = saveCategory();
+
+        Post oldest = savePost(cafe, BASE_TIME, false);
+        Post tie1 = savePost(cafe, BASE_TIME.plusHours(1), false);
+        Post tie2 = savePost(cafe, BASE_TIME.plusHours(1), false);
+        Post tie3 = savePost(cafe, BASE_TIME.plusHours(1), false);
+        savePost(cafe, BASE_TIME.plusHours(2), true); // 삭제된 게시글은 최신이어도 제외
+        Post parkPost = savePost(park, BASE_TIME, false);
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<Post> result = postRepository.findLatestPostsPerCategory(3);
+
+        // 카테고리 수와 상관없이 DB 왕복 1번 (카테고리는 이미 영속성 컨텍스트에 있음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        // 작성 시간이 같으면 id 내림차순 - 카테고리당 3개까지만
+        assertThat(idsOf(result, cafe)).containsExactly(tie3.getId(), tie2.getId(), tie1.getId());
+        assertThat(idsOf(result, cafe)).doesNotContain(oldest.getId());
+        assertThat(idsOf(result, park)).containsExactly(parkPost.getId());
+    }
+
+    // 다른 데이터와 섞이지 않도록 테스트에서 만든 카테고리의 결과만 본다.
+    private List<Long> idsOf(List<Post> posts, Category category) {
+        return posts.stream()
+                .filter(post -> post.getCategory().getId().equals(category.getId()))
+                .map(Post::getId)
+                .toList();
+    }
+
+    private Category saveCategory() {
+        Category category = Category.builder().name("test-" + UUID.randomUUID()).build();
+        entityManager.persist(category);
+        return category;
+    }
+
+    // 작성 시간은 auditing 으로 채워지므로 저장 후 직접 덮어쓴다.
+    private Post savePost(Category category, LocalDateTime createdAt, boolean deleted) {
+        Post post = Post.builder()
+                .postTitle("게시글")
+                .category(category)
+                .deleted(deleted)
+                .build();
+        entityManager.persist(post);
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE post SET created_at = :createdAt WHERE post_id = :postId")
+                .setParameter("createdAt", createdAt)
+                .setParameter("postId", post.getId())
+                .executeUpdate();
+        return post;
+    }
+}
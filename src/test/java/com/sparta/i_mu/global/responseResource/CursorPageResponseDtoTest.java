@@ -0,0 +1,37 @@
+package com.sparta.i_mu.global.responseResource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPageResponseDtoTest {
+
+    @Test
+    void size_보다_하나_더_조회되면_다음_페이지가_있다() {
+        CursorPageResponseDto<Integer> response = CursorPageResponseDto.of(List.of(1, 2, 3), 2, String::valueOf, Function.identity());
+
+        assertThat(response.getContent()).containsExactly(1, 2);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isEqualTo("2");
+    }
+
+    @Test
+    void size_이하로_조회되면_마지막_페이지다() {
+        CursorPageResponseDto<Integer> response = CursorPageResponseDto.of(List.of(1, 2), 2, String::valueOf, Function.identity());
+
+        assertThat(response.getContent()).containsExactly(1, 2);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 결과가_없으면_빈_페이지다() {
+        CursorPageResponseDto<Integer> response = CursorPageResponseDto.of(List.<Integer>of(), 10, String::valueOf, Function.identity());
+
+        assertThat(response.getContent()).isEmpty();
+        assertThat(response.isHasNext()).isFalse();
+    }
+}
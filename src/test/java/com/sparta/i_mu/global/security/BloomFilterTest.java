@@ -0,0 +1,42 @@
+package com.sparta.i_mu.global.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void 추가한_값은_항상_포함된다() {
+        BloomFilter bloomFilter = new BloomFilter(1 << 20, 5);
+        String[] tokens = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID().toString()).toArray(String[]::new);
+
+        for (String token : tokens) {
+            bloomFilter.add(token);
+        }
+
+        assertThat(tokens).allMatch(bloomFilter::mightContain);
+    }
+
+    @Test
+    void 추가하지_않은_값의_오탐률이_낮다() {
+        BloomFilter bloomFilter = new BloomFilter(1 << 20, 5);
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.add("revoked-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> bloomFilter.mightContain("active-" + i))
+                .count();
+
+        assertThat(falsePositives).isLessThan(100); // 0.1% 미만
+    }
+
+    @Test
+    void 빈_필터는_아무것도_포함하지_않는다() {
+        BloomFilter bloomFilter = new BloomFilter(1024, 3);
+
+        assertThat(bloomFilter.mightContain("token")).isFalse();
+    }
+}
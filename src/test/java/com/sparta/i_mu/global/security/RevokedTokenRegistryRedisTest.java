@@ -0,0 +1,106 @@
+package com.sparta.i_mu.global.security;
+
+import com.sparta.i_mu.global.util.JwtUtil;
+import com.sparta.i_mu.global.util.RedisUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 실제 Redis 로 인스턴스 간 로그아웃 전파 확인 - 두 인스턴스는 각자의 pub/sub 컨테이너를 가진다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RevokedTokenRegistryRedisTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final String TOKEN = "header.payload.signature";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisUtil redisUtil;
+    private final List<RedisMessageListenerContainer> listenerContainers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        redisUtil = new RedisUtil(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : listenerContainers) {
+            container.destroy();
+        }
+        listenerContainers.clear();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 한_인스턴스의_로그아웃이_다른_인스턴스에_전파된다() {
+        RevokedTokenRegistry first = subscribedRegistry();
+        RevokedTokenRegistry second = subscribedRegistry();
+        assertThat(second.isRevoked(EMAIL, TOKEN)).isFalse();
+
+        first.revoke(EMAIL, "Bearer " + TOKEN, 3600L);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> second.isRevoked(EMAIL, TOKEN));
+    }
+
+    @Test
+    void 알림을_놓친_인스턴스는_동기화로_보정된다() {
+        RevokedTokenRegistry first = subscribedRegistry();
+        // SCAN 이 여러 번에 나눠 돌도록 다른 유저의 블랙 리스트를 함께 저장
+        for (int i = 0; i < 2500; i++) {
+            redisUtil.storeBlacklist("other" + i + "@test.com", "Bearer other-token-" + i, 3600L);
+        }
+        first.revoke(EMAIL, "Bearer " + TOKEN, 3600L);
+
+        // 로그아웃 이후에 구독한 인스턴스 - 알림을 받지 못했다.
+        RevokedTokenRegistry missed = subscribedRegistry();
+        assertThat(missed.isRevoked(EMAIL, TOKEN)).isFalse();
+
+        missed.sync();
+
+        assertThat(missed.isRevoked(EMAIL, TOKEN)).isTrue();
+        assertThat(missed.isRevoked("other2499@test.com", "other-token-2499")).isTrue();
+    }
+
+    // 구독 등록 후 컨테이너를 시작 - start() 는 구독이 완료될 때까지 기다린다.
+    private RevokedTokenRegistry subscribedRegistry() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        listenerContainers.add(container);
+
+        RevokedTokenRegistry registry = new RevokedTokenRegistry(redisUtil, new JwtUtil(), container, new SimpleMeterRegistry());
+        registry.subscribe();
+        container.start();
+        return registry;
+    }
+}
@@ -0,0 +1,164 @@
+package com.sparta.i_mu.global.security;
+
+import com.sparta.i_mu.global.util.JwtUtil;
+import com.sparta.i_mu.global.util.RedisUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RevokedTokenRegistryTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final String TOKEN = "header.payload.signature";
+
+    private RedisUtil redisUtil;
+    private MutableClock clock;
+    private RevokedTokenRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        redisUtil = mock(RedisUtil.class);
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        registry = new RevokedTokenRegistry(redisUtil, new JwtUtil(), mock(RedisMessageListenerContainer.class),
+                new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    void 로그아웃하지_않은_토큰은_Redis_를_조회하지_않는다() {
+        assertThat(registry.isRevoked(EMAIL, TOKEN)).isFalse();
+
+        verify(redisUtil, never()).isBlacklisted(anyString());
+    }
+
+    @Test
+    void 로그아웃한_토큰은_로컬에서_차단한다() {
+        registry.revoke(EMAIL, "Bearer " + TOKEN, 3600L);
+
+        assertThat(registry.isRevoked(EMAIL, TOKEN)).isTrue();
+        verify(redisUtil).storeBlacklist(EMAIL, "Bearer " + TOKEN, 3600L);
+        verify(redisUtil).publish(anyString(), anyString());
+        verify(redisUtil, never()).isBlacklisted(anyString());
+    }
+
+    @Test
+    void 다른_인스턴스의_로그아웃_알림을_반영한다() {
+        long expiresAt = clock.millis() + 3600_000L;
+        registry.onMessage(message(expiresAt + ":" + TOKEN), null);
+
+        assertThat(registry.isRevoked(EMAIL, TOKEN)).isTrue();
+        verify(redisUtil, never()).isBlacklisted(anyString());
+    }
+
+    @Test
+    void 잘못된_알림은_무시한다() {
+        registry.onMessage(message("not-a-revocation"), null);
+        registry.onMessage(message("abc:" + TOKEN), null);
+
+        assertThat(registry.isRevoked(EMAIL, TOKEN)).isFalse();
+    }
+
+    @Test
+    void 놓친_알림은_Redis_동기화로_반영한다() {
+        given(redisUtil.getBlacklist()).willReturn(Map.of("Bearer " + TOKEN, 3600L));
+
+        registry.sync();
+
+        assertThat(registry.isRevoked(EMAIL, TOKEN)).isTrue();
+    }
+
+    @Test
+    void 로컬_목록에서_만료된_토큰은_Redis_로_확인한다() {
+        registry.revoke(EMAIL, "Bearer " + TOKEN, 60L);
+        clock.advance(Duration.ofMinutes(2));
+        registry.cleanup();
+
+        // Bloom filter 에는 남아 있으므로 Redis 로 확인
+        given(redisUtil.isBlacklisted(EMAIL)).willReturn(null);
+        assertThat(registry.isRevoked(EMAIL, TOKEN)).isFalse();
+        verify(redisUtil).isBlacklisted(EMAIL);
+    }
+
+    @Test
+    void Bloom_filter_오탐이어도_Redis_블랙리스트와_같은_토큰만_차단한다() {
+        registry.revoke(EMAIL, "Bearer " + TOKEN, 60L);
+        clock.advance(Duration.ofMinutes(2));
+        registry.cleanup();
+
+        given(redisUtil.isBlacklisted(EMAIL)).willReturn("Bearer " + TOKEN);
+        assertThat(registry.isRevoked(EMAIL, TOKEN)).isTrue();
+    }
+
+    @Test
+    void 만료되지_않은_토큰은_세대가_바뀌어도_차단한다() {
+        registry.revoke(EMAIL, "Bearer " + TOKEN, 5 * 3600L);
+
+        clock.advance(Duration.ofHours(2));
+        registry.cleanup();
+        clock.advance(Duration.ofHours(2));
+        registry.cleanup();
+
+        assertThat(registry.isRevoked(EMAIL, TOKEN)).isTrue();
+        verify(redisUtil, never()).isBlacklisted(anyString());
+    }
+
+    @Test
+    void 만료된_토큰은_두_세대가_지나면_Bloom_filter_에서도_사라진다() {
+        registry.revoke(EMAIL, "Bearer " + TOKEN, 60L);
+
+        clock.advance(Duration.ofHours(2));
+        registry.cleanup();
+        clock.advance(Duration.ofHours(2));
+        registry.cleanup();
+
+        assertThat(registry.isRevoked(EMAIL, TOKEN)).isFalse();
+        verify(redisUtil, never()).isBlacklisted(anyString());
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("TOKEN_REVOKED".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.sparta.i_mu.global.util;
+
+import com.sparta.i_mu.global.errorCode.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorUtilTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, CursorUtil.MAX_SIZE + 1})
+    void 범위를_벗어난_size_는_거부한다(int size) {
+        assertThatThrownBy(() -> CursorUtil.validateSize(size))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorCode.CURSOR_SIZE_INVALID.getMessage());
+    }
+
+    @Test
+    void 최대_size_는_허용한다() {
+        assertThat(CursorUtil.validateSize(CursorUtil.MAX_SIZE)).isEqualTo(CursorUtil.MAX_SIZE);
+    }
+}
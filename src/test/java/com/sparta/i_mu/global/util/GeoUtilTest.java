@@ -0,0 +1,51 @@
+package com.sparta.i_mu.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoUtilTest {
+
+    private static final double EARTH_RADIUS_IN_METERS = 6370986.0;
+    private static final double LONGITUDE = 127.0276;
+    private static final double LATITUDE = 37.4979;
+    private static final double DISTANCE = 5000;
+
+    @Test
+    void 반경_경계의_북쪽_좌표가_사각_범위에_포함된다() {
+        double latitude = LATITUDE + Math.toDegrees(4995 / EARTH_RADIUS_IN_METERS);
+
+        assertThat(GeoUtil.distanceInMeters(LONGITUDE, LATITUDE, LONGITUDE, latitude)).isLessThan(DISTANCE);
+        assertThat(contains(GeoUtil.boundingBox(LONGITUDE, LATITUDE, DISTANCE), LONGITUDE, latitude)).isTrue();
+    }
+
+    @Test
+    void 반경_경계의_동쪽_좌표가_사각_범위에_포함된다() {
+        double angle = 4995 / EARTH_RADIUS_IN_METERS;
+        double longitude = LONGITUDE + Math.toDegrees(
+                2 * Math.asin(Math.sin(angle / 2) / Math.cos(Math.toRadians(LATITUDE))));
+
+        assertThat(GeoUtil.distanceInMeters(LONGITUDE, LATITUDE, longitude, LATITUDE)).isLessThan(DISTANCE);
+        assertThat(contains(GeoUtil.boundingBox(LONGITUDE, LATITUDE, DISTANCE), longitude, LATITUDE)).isTrue();
+    }
+
+    @Test
+    void 반경_경계의_좌표가_geohash_셀에_포함된다() {
+        double latitude = LATITUDE - Math.toDegrees(4995 / EARTH_RADIUS_IN_METERS);
+        GeoUtil.BoundingBox box = GeoUtil.boundingBox(LONGITUDE, LATITUDE, DISTANCE);
+
+        assertThat(GeoUtil.geohashesCovering(box, 5)).contains(GeoUtil.geohash(LONGITUDE, latitude, 5));
+    }
+
+    @Test
+    void 반경_밖의_좌표는_거리가_반경보다_크다() {
+        double latitude = LATITUDE + Math.toDegrees(5005 / EARTH_RADIUS_IN_METERS);
+
+        assertThat(GeoUtil.distanceInMeters(LONGITUDE, LATITUDE, LONGITUDE, latitude)).isGreaterThan(DISTANCE);
+    }
+
+    private boolean contains(GeoUtil.BoundingBox box, double longitude, double latitude) {
+        return box.getMinLatitude() <= latitude && latitude <= box.getMaxLatitude()
+                && box.getMinLongitude() <= longitude && longitude <= box.getMaxLongitude();
+    }
+}